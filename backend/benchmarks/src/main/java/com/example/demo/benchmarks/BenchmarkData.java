@@ -0,0 +1,106 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.dto.AttendanceResponseDTO;
+import com.example.demo.dto.EmployeeResponseDTO;
+import com.example.demo.dto.SalaryResponseDTO;
+import com.example.demo.model.Department;
+import com.example.demo.model.Employee;
+import com.example.demo.model.Role;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Representative entities and DTOs shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static Department department() {
+        return new Department("ENGI", "Engineering", 150_000, 750);
+    }
+
+    static Employee employee(int number, Department department) {
+        Employee employee = new Employee();
+        employee.setId(department.getId() + number);
+        employee.setFirst_name("First" + number);
+        employee.setLast_name("Last" + number);
+        employee.setNic("1990" + String.format("%08d", number));
+        employee.setAddress(number + " Galle Road, Colombo");
+        employee.setGender(number % 2 == 0 ? "Female" : "Male");
+        employee.setPhone("077" + String.format("%07d", number));
+        employee.setEmail("employee" + number + "@company.com");
+        employee.setPassword("$2a$10$abcdefghijklmnopqrstuuLjyR0b5XkYzqzKq1Uj7v0Jg2Q8e4b5u");
+        employee.setBirthday(LocalDate.of(1990, 1, 1).plusDays(number));
+        employee.setAge(35);
+        employee.setDepartment(department);
+        employee.setRole(Role.USER);
+        return employee;
+    }
+
+    static List<EmployeeResponseDTO> employeeResponses(int count) {
+        Department department = department();
+        List<EmployeeResponseDTO> responses = new ArrayList<>(count);
+        for (int n = 1; n <= count; n++) {
+            Employee employee = employee(n, department);
+            EmployeeResponseDTO dto = new EmployeeResponseDTO();
+            dto.setId(employee.getId());
+            dto.setFirstName(employee.getFirst_name());
+            dto.setLastName(employee.getLast_name());
+            dto.setPhone(employee.getPhone());
+            dto.setEmail(employee.getEmail());
+            dto.setAge(employee.getAge());
+            dto.setNic(employee.getNic());
+            dto.setDepartment_id(department.getId());
+            dto.setAddress(employee.getAddress());
+            dto.setRole(employee.getRole());
+            responses.add(dto);
+        }
+        return responses;
+    }
+
+    // One day of attendance for count employees, as GET /api/v1/attendance/date={date} returns it
+    static List<AttendanceResponseDTO> attendanceResponses(int count) {
+        LocalDate date = LocalDate.of(2025, 1, 15);
+        List<AttendanceResponseDTO> responses = new ArrayList<>(count);
+        for (int n = 1; n <= count; n++) {
+            AttendanceResponseDTO dto = new AttendanceResponseDTO();
+            dto.setId((long) n);
+            dto.setEmployee_id("ENGI" + n);
+            dto.setDate(date);
+            dto.setStatus(n % 10 == 0 ? "LEAVE" : "PRESENT");
+            dto.setOverTimeHours(n % 10 == 0 ? 0.0 : 1.5);
+            responses.add(dto);
+        }
+        return responses;
+    }
+
+    // One payroll period for count employees
+    static List<SalaryResponseDTO> salaryResponses(int count) {
+        List<SalaryResponseDTO> responses = new ArrayList<>(count);
+        for (int n = 1; n <= count; n++) {
+            SalaryResponseDTO dto = new SalaryResponseDTO();
+            dto.setId(n);
+            dto.setEmployee_id("ENGI" + n);
+            dto.setStartDate(LocalDate.of(2025, 1, 1));
+            dto.setEndDate(LocalDate.of(2025, 1, 31));
+            dto.setDepartment_id("ENGI");
+            dto.setBaseSalary(150_000);
+            dto.setDaysPRESENT(20);
+            dto.setDaysLEAVE(1);
+            dto.setDaysNO_PAY(0);
+            dto.setDaysHALF_DAY(1);
+            dto.setDeduction(2_500);
+            dto.setBonus(5_000);
+            dto.setOverTimeHours(12.5);
+            dto.setOverTimeRate(750);
+            dto.setOverTimePay(9_375);
+            dto.setTotalSalary(161_875);
+            responses.add(dto);
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.dto.EmployeeResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing the body of GET /api/v1/employee, with an ObjectMapper built the way Spring MVC builds it
+ * but without {@code ResponseJsonModule}; {@link ResponseJsonBenchmark} compares the two.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeJsonBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int employees;
+
+    private ObjectWriter writer;
+    private List<EmployeeResponseDTO> body;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writerFor(new TypeReference<List<EmployeeResponseDTO>>() { });
+        body = BenchmarkData.employeeResponses(employees);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployeeList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(body);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.dto.EmployeeResponseDTO;
+import com.example.demo.service.EmployeeSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /api/v1/employee/search served from {@code EmployeeSearchIndex}, against a scan that lower-cases
+ * and checks every employee, the way the employee list filtered on the client before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeSearchBenchmark {
+
+    @Param({"10000", "100000"})
+    private int employees;
+
+    // A selective term, a short prefix matching everyone, and two terms
+    @Param({"first1234", "em", "last 99"})
+    private String query;
+
+    private EmployeeSearchIndex index;
+    private List<EmployeeResponseDTO> all;
+
+    @Setup
+    public void setUp() {
+        all = BenchmarkData.employeeResponses(employees);
+        index = new EmployeeSearchIndex();
+        index.rebuild(all);
+    }
+
+    @Benchmark
+    public EmployeeSearchIndex.Page indexSearch() {
+        return index.search(query, 0, 20);
+    }
+
+    @Benchmark
+    public List<EmployeeResponseDTO> scan() {
+        String[] terms = query.toLowerCase(Locale.ROOT).split("\\s+");
+        List<EmployeeResponseDTO> matches = new ArrayList<>();
+        for (EmployeeResponseDTO dto : all) {
+            String text = (dto.getId() + " " + dto.getFirstName() + " " + dto.getLastName() + " " + dto.getEmail()
+                    + " " + dto.getNic() + " " + dto.getPhone()).toLowerCase(Locale.ROOT);
+            boolean match = true;
+            for (String term : terms) {
+                match &= text.contains(term);
+            }
+            if (match) {
+                matches.add(dto);
+            }
+        }
+        return matches.subList(0, Math.min(20, matches.size()));
+    }
+}
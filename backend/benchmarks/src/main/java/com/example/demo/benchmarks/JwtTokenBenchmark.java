@@ -0,0 +1,52 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.Config.JwtPrincipal;
+import com.example.demo.Util.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue cost at login and the validateToken check, with the application's signing key.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenBenchmark {
+
+    private JwtUtil jwtUtil;
+    private JwtPrincipal principal;
+    private Map<String, Object> claims;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(JwtVerificationBenchmark.SECRET, 86_400_000L);
+        principal = new JwtPrincipal("bench@company.com", "HR");
+        claims = Map.of("role", "HR");
+        token = jwtUtil.generateToken(principal, claims);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(principal, claims);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token, principal);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.dto.AttendanceResponseDTO;
+import com.example.demo.dto.EmployeeCreateDTO;
+import com.example.demo.dto.EmployeeResponseDTO;
+import com.example.demo.dto.SalaryResponseDTO;
+import com.example.demo.mapper.AttendanceMapper;
+import com.example.demo.mapper.EmployeeMapper;
+import com.example.demo.mapper.SalaryMapper;
+import com.example.demo.model.Attendance;
+import com.example.demo.model.Department;
+import com.example.demo.model.Employee;
+import com.example.demo.model.Role;
+import com.example.demo.model.Salary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/DTO conversions done for every row a list endpoint returns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final EmployeeMapper employeeMapper = new EmployeeMapper();
+    private final SalaryMapper salaryMapper = new SalaryMapper();
+    private final AttendanceMapper attendanceMapper = new AttendanceMapper();
+
+    private Department department;
+    private EmployeeCreateDTO employeeCreateDTO;
+    private Employee employee;
+    private Salary salary;
+    private Attendance attendance;
+
+    @Setup
+    public void setUp() {
+        department = BenchmarkData.department();
+        employee = BenchmarkData.employee(1, department);
+        employeeCreateDTO = new EmployeeCreateDTO();
+        employeeCreateDTO.setFirstName("Nimal");
+        employeeCreateDTO.setLastName("Perera");
+        employeeCreateDTO.setNic("199012345678");
+        employeeCreateDTO.setGender("Male");
+        employeeCreateDTO.setPhone("0771234567");
+        employeeCreateDTO.setEmail("nimal@company.com");
+        employeeCreateDTO.setPassword("password123");
+        employeeCreateDTO.setBirthday(LocalDate.of(1990, 1, 1));
+        employeeCreateDTO.setDepartment_id(department.getId());
+        employeeCreateDTO.setAddress("Colombo");
+        employeeCreateDTO.setRole(Role.USER);
+
+        salary = salaryMapper.toEntity(employee, department, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31), 5_000);
+        salary.setId(1L);
+
+        attendance = new Attendance();
+        attendance.setId(1L);
+        attendance.setEmployee(employee);
+        attendance.setDate(LocalDate.of(2025, 1, 15));
+        attendance.setStatus(Attendance.AttendanceStatus.PRESENT);
+        attendance.setOverTimeHours(2.0);
+    }
+
+    @Benchmark
+    public Employee employeeToEntity() {
+        return employeeMapper.toEntity(employeeCreateDTO, department, "$2a$10$hash", 35);
+    }
+
+    @Benchmark
+    public EmployeeResponseDTO employeeToResponse() {
+        return employeeMapper.toResponseDTO(employee);
+    }
+
+    @Benchmark
+    public SalaryResponseDTO salaryToResponse() {
+        return salaryMapper.toResponseDTO(salary, employee, department);
+    }
+
+    @Benchmark
+    public AttendanceResponseDTO attendanceToResponse() {
+        return attendanceMapper.toResponseDTO(attendance);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.Config.ResponseJsonModule;
+import com.example.demo.dto.AttendanceResponseDTO;
+import com.example.demo.dto.EmployeeResponseDTO;
+import com.example.demo.dto.SalaryResponseDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streaming the large list bodies (employees, one day of attendance, one payroll period of salaries)
+ * to a response stream, with the reflective serializers against {@link ResponseJsonModule}.
+ * Run with {@code -prof gc}: gc.alloc.rate.norm divided by {@code rows} is the allocation per element.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseJsonBenchmark {
+
+    @Param({"reflective", "handwritten"})
+    private String serializers;
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private ObjectWriter employeeWriter;
+    private ObjectWriter attendanceWriter;
+    private ObjectWriter salaryWriter;
+    private List<EmployeeResponseDTO> employees;
+    private List<AttendanceResponseDTO> attendance;
+    private List<SalaryResponseDTO> salaries;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper reflective = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper mapper = "handwritten".equals(serializers)
+                ? Jackson2ObjectMapperBuilder.json().modulesToInstall(new ResponseJsonModule()).build()
+                : reflective;
+        employeeWriter = mapper.writerFor(new TypeReference<List<EmployeeResponseDTO>>() { });
+        attendanceWriter = mapper.writerFor(new TypeReference<List<AttendanceResponseDTO>>() { });
+        salaryWriter = mapper.writerFor(new TypeReference<List<SalaryResponseDTO>>() { });
+        employees = BenchmarkData.employeeResponses(rows);
+        attendance = BenchmarkData.attendanceResponses(rows);
+        salaries = BenchmarkData.salaryResponses(rows);
+
+        // Only a faster path that writes the same document is worth measuring
+        assertSameJson(reflective, employeeWriter, employees);
+        assertSameJson(reflective, attendanceWriter, attendance);
+        assertSameJson(reflective, salaryWriter, salaries);
+    }
+
+    private static void assertSameJson(ObjectMapper reflective, ObjectWriter writer, List<?> body) throws IOException {
+        if (!reflective.readTree(reflective.writeValueAsBytes(body)).equals(reflective.readTree(writer.writeValueAsBytes(body)))) {
+            throw new IllegalStateException("Serializers disagree for " + body.get(0).getClass().getSimpleName());
+        }
+    }
+
+    @Benchmark
+    public void employees() throws IOException {
+        employeeWriter.writeValue(OutputStream.nullOutputStream(), employees);
+    }
+
+    @Benchmark
+    public void attendance() throws IOException {
+        attendanceWriter.writeValue(OutputStream.nullOutputStream(), attendance);
+    }
+
+    @Benchmark
+    public void salaries() throws IOException {
+        salaryWriter.writeValue(OutputStream.nullOutputStream(), salaries);
+    }
+}
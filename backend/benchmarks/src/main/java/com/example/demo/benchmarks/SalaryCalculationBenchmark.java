@@ -0,0 +1,53 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.model.Attendance;
+import com.example.demo.model.Department;
+import com.example.demo.model.Salary;
+import com.example.demo.service.AttendanceTotals;
+import com.example.demo.service.SalaryCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-employee salary arithmetic of createSalary and payroll runs, from aggregated attendance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SalaryCalculationBenchmark {
+
+    private final SalaryCalculator calculator = new SalaryCalculator();
+
+    private Department department;
+    private AttendanceTotals totals;
+
+    @Setup
+    public void setUp() {
+        department = BenchmarkData.department();
+        totals = new AttendanceTotals();
+        totals.add(Attendance.AttendanceStatus.PRESENT, 19, 23.5);
+        totals.add(Attendance.AttendanceStatus.LEAVE, 1, 0);
+        totals.add(Attendance.AttendanceStatus.HALF_DAY, 1, 0);
+        totals.add(Attendance.AttendanceStatus.NO_PAY, 1, 0);
+    }
+
+    @Benchmark
+    public Salary calculateSalary() {
+        Salary salary = new Salary();
+        calculator.apply(salary, department, totals, 5_000);
+        return salary;
+    }
+}
@@ -0,0 +1,102 @@
+// Closed-loop load generator for comparing the platform-thread and virtual-thread modes.
+// Each of CONCURRENCY workers logs in once, then calls the endpoints round-robin for DURATION_SECONDS.
+// Prints one JSON line with throughput, latency percentiles and errors per endpoint.
+//
+//   MODE=platform BASE_URL=http://localhost:8080 node loadtest/compare-threading.js
+//
+const axios = require('axios');
+
+const BASE_URL = process.env.BASE_URL || 'http://localhost:8080';
+const MODE = process.env.MODE || 'unknown';
+const CONCURRENCY = parseInt(process.env.CONCURRENCY || '200', 10);
+const DURATION_SECONDS = parseInt(process.env.DURATION_SECONDS || '60', 10);
+const EMAIL = process.env.EMAIL || 'admin@company.com';
+const PASSWORD = process.env.PASSWORD || 'admin123';
+const DATE = process.env.DATE || new Date().toISOString().slice(0, 10);
+const EMPLOYEE_ID = process.env.EMPLOYEE_ID || 'ADMIN001';
+
+const ENDPOINTS = [
+    `/api/v1/employee/page?size=50`,
+    `/api/v1/attendance/date=${DATE}`,
+    `/api/v1/department/getAll`,
+    `/api/v1/salary/getByEmpId/${EMPLOYEE_ID}`,
+];
+
+const client = axios.create({ baseURL: BASE_URL, timeout: 60000, validateStatus: () => true });
+
+function percentile(sorted, p) {
+    if (sorted.length === 0) {
+        return null;
+    }
+    return sorted[Math.min(sorted.length - 1, Math.floor((p / 100) * sorted.length))];
+}
+
+async function login() {
+    const response = await client.post('/api/v1/auth/login', { email: EMAIL, password: PASSWORD });
+    if (response.status !== 200) {
+        throw new Error(`Login failed with status ${response.status}`);
+    }
+    return response.data.token;
+}
+
+async function worker(token, deadline, stats, offset) {
+    const headers = { Authorization: `Bearer ${token}` };
+    let i = offset;
+    while (Date.now() < deadline) {
+        const endpoint = ENDPOINTS[i++ % ENDPOINTS.length];
+        const started = process.hrtime.bigint();
+        let ok = false;
+        try {
+            const response = await client.get(endpoint, { headers });
+            // 404 is a valid answer for the list endpoints when there is no data for the day
+            ok = response.status < 500;
+        } catch (e) {
+            ok = false;
+        }
+        const millis = Number(process.hrtime.bigint() - started) / 1e6;
+        const entry = stats[endpoint];
+        entry.latencies.push(millis);
+        if (!ok) {
+            entry.errors++;
+        }
+    }
+}
+
+async function main() {
+    const token = await login();
+    const stats = Object.fromEntries(ENDPOINTS.map(e => [e, { latencies: [], errors: 0 }]));
+    const started = Date.now();
+    const deadline = started + DURATION_SECONDS * 1000;
+    await Promise.all(Array.from({ length: CONCURRENCY }, (_, n) => worker(token, deadline, stats, n)));
+    const elapsedSeconds = (Date.now() - started) / 1000;
+
+    const endpoints = {};
+    let requests = 0;
+    let errors = 0;
+    for (const [endpoint, entry] of Object.entries(stats)) {
+        const sorted = entry.latencies.sort((a, b) => a - b);
+        requests += sorted.length;
+        errors += entry.errors;
+        endpoints[endpoint] = {
+            requests: sorted.length,
+            errors: entry.errors,
+            p50Ms: percentile(sorted, 50),
+            p95Ms: percentile(sorted, 95),
+            p99Ms: percentile(sorted, 99),
+        };
+    }
+    console.log(JSON.stringify({
+        mode: MODE,
+        concurrency: CONCURRENCY,
+        durationSeconds: DURATION_SECONDS,
+        requests,
+        errors,
+        throughputPerSecond: requests / elapsedSeconds,
+        endpoints,
+    }));
+}
+
+main().catch(e => {
+    console.error(e.message);
+    process.exit(1);
+});
@@ -0,0 +1,118 @@
+package com.example.demo.Config;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.demo.exception.PasswordHashingUnavailableException;
+
+/**
+ * BCrypt on a dedicated pool of worker threads with a bounded queue. A burst of logins can occupy
+ * at most the pool's threads instead of every request thread and core; once the queue is full,
+ * callers are rejected straight away with {@link PasswordHashingUnavailableException} (503)
+ * rather than waiting behind the burst.
+ * <p>
+ * BCrypt does not respond to interrupts, so a caller that gives up after the timeout cannot stop a
+ * hash that has already started: it keeps its worker until it completes, and its work is wasted.
+ * Only a check still waiting in the queue is dropped. The timeout should therefore cover a full
+ * queue, roughly (queueCapacity / threads + 1) hash times, so that it is rarely reached.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final Pattern BCRYPT_PREFIX = Pattern.compile("^\\$2[abxy]?\\$(\\d\\d)\\$");
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+
+    public BoundedPasswordEncoder(int strength, int threads, int queueCapacity, Duration timeout) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.timeoutNanos = timeout.toNanos();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public ThreadPoolExecutor getExecutor() {
+        return executor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * True for every hash made with a different work factor (higher or lower) than the configured
+     * one, so DaoAuthenticationProvider rehashes the password on the next successful login.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PREFIX.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingUnavailableException("Too many password checks in progress, please retry shortly", e);
+        }
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            abandon(future);
+            throw new PasswordHashingUnavailableException("Password check timed out, please retry shortly", e);
+        } catch (InterruptedException e) {
+            abandon(future);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Interrupted while waiting for a password check", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // Frees the queue slot of a check that has not started; one already running finishes regardless
+    private void abandon(Future<?> future) {
+        future.cancel(false);
+        executor.remove((Runnable) future);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
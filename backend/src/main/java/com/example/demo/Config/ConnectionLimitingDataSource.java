@@ -0,0 +1,134 @@
+package com.example.demo.Config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Admits at most as many concurrent connection holders as the pool has connections. With virtual
+ * threads the servlet container no longer bounds request concurrency, so without this every request
+ * would queue inside the pool and only fail after its connection timeout. Waiters are served in
+ * arrival order and give up after the acquire timeout. The permit is returned when the connection is closed,
+ * also when it is closed through a connection interface it was unwrapped to; a connection unwrapped to a
+ * concrete driver class cannot be intercepted and must not be closed directly.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final long acquireTimeoutNanos;
+
+    public ConnectionLimitingDataSource(DataSource target, int maxConcurrency, Duration acquireTimeout) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquirePermit();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquirePermit();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    private void acquirePermit() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException("Timed out waiting for one of " + maxConcurrency + " database connections");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        return releasingOnClose(Connection.class, connection, new AtomicBoolean());
+    }
+
+    // The connection, or a vendor interface it was unwrapped to, behind a proxy whose close() returns
+    // the permit; all proxies of one connection share the flag, so the permit is returned once
+    private <T extends Connection> T releasingOnClose(Class<T> type, Connection connection, AtomicBoolean released) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals" -> {
+                            return proxy == args[0];
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(proxy);
+                        }
+                        case "isWrapperFor" -> {
+                            return ((Class<?>) args[0]).isInstance(proxy) || (Boolean) invoke(connection, method, args);
+                        }
+                        case "unwrap" -> {
+                            Class<?> iface = (Class<?>) args[0];
+                            if (iface.isInstance(proxy)) {
+                                return proxy;
+                            }
+                            Object unwrapped = invoke(connection, method, args);
+                            // Closing an unwrapped vendor connection must return the permit as well
+                            if (iface.isInterface() && Connection.class.isAssignableFrom(iface)) {
+                                return releasingOnClose(iface.asSubclass(Connection.class), (Connection) unwrapped, released);
+                            }
+                            return unwrapped;
+                        }
+                        case "close" -> {
+                            try {
+                                return invoke(connection, method, args);
+                            } finally {
+                                if (released.compareAndSet(false, true)) {
+                                    permits.release();
+                                }
+                            }
+                        }
+                        default -> {
+                            return invoke(connection, method, args);
+                        }
+                    }
+                }));
+    }
+
+    private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.demo.Config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.service.EmployeeHistoryPurger;
+
+/**
+ * Restarts the history purge of employees that were deleted in background mode but are still
+ * present, because the application stopped before their purge finished.
+ */
+@Component
+public class EmployeePurgeRecovery implements ApplicationRunner {
+
+    private final EmployeeHistoryPurger employeeHistoryPurger;
+
+    @Autowired
+    public EmployeePurgeRecovery(EmployeeHistoryPurger employeeHistoryPurger) {
+        this.employeeHistoryPurger = employeeHistoryPurger;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        employeeHistoryPurger.resumePending();
+    }
+}
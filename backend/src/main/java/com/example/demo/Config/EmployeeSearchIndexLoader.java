@@ -0,0 +1,28 @@
+package com.example.demo.Config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.service.EmployeeService;
+
+/**
+ * Fills the employee search index on startup. It listens for ApplicationReadyEvent rather than
+ * being a runner so that it sees the employees the startup runners (DataInitializer) create.
+ */
+@Component
+public class EmployeeSearchIndexLoader {
+
+    private final EmployeeService employeeService;
+
+    @Autowired
+    public EmployeeSearchIndexLoader(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        employeeService.rebuildSearchIndex();
+    }
+}
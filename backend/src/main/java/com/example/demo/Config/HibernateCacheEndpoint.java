@@ -0,0 +1,55 @@
+package com.example.demo.Config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.model.Department;
+import com.example.demo.model.Employee;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Exposes hit/miss counters of the second-level cache regions at /actuator/hibernatecache.
+ * Requires hibernate.generate_statistics, otherwise every counter reads zero.
+ */
+@Component
+@Endpoint(id = "hibernatecache")
+public class HibernateCacheEndpoint {
+
+    private static final String[] REGIONS = { Department.CACHE_REGION, Employee.CACHE_REGION };
+
+    private final Statistics statistics;
+
+    public HibernateCacheEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ReadOperation
+    public Map<String, Object> cacheStatistics() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        body.put("secondLevelCacheHits", statistics.getSecondLevelCacheHitCount());
+        body.put("secondLevelCacheMisses", statistics.getSecondLevelCacheMissCount());
+        body.put("secondLevelCachePuts", statistics.getSecondLevelCachePutCount());
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String region : REGIONS) {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            Map<String, Object> counters = new LinkedHashMap<>();
+            counters.put("hits", regionStatistics.getHitCount());
+            counters.put("misses", regionStatistics.getMissCount());
+            counters.put("puts", regionStatistics.getPutCount());
+            counters.put("elementsInMemory", regionStatistics.getElementCountInMemory());
+            regions.put(region, counters);
+        }
+        body.put("regions", regions);
+        return body;
+    }
+}
@@ -1,25 +1,45 @@
 package com.example.demo.Config;
 
 import com.example.demo.Util.JwtUtil;
+import com.example.demo.Util.VerifiedToken;
+import com.example.demo.exception.EmployeeNotFoundException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /**
+     * Where the authenticated principal comes from:
+     * DATABASE loads the employee on every request, CACHE loads it once and keeps it in the
+     * bounded {@link PrincipalCache}, CLAIMS builds it from the verified token's subject and role claim.
+     */
+    public enum PrincipalSource {
+        DATABASE,
+        CACHE,
+        CLAIMS
+    }
+
     @Autowired
     private JwtUtil jwtUtil;
 
@@ -27,31 +47,115 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Lazy
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Value("${jwt.principal-source:database}")
+    private PrincipalSource principalSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Time spent authenticating a request (excluding the rest of the chain), by outcome
+    private Timer authenticatedTimer;
+    private Timer anonymousTimer;
+    private Timer rejectedTimer;
+
+    @PostConstruct
+    void registerTimers() {
+        authenticatedTimer = filterTimer("authenticated");
+        anonymousTimer = filterTimer("anonymous");
+        rejectedTimer = filterTimer("rejected");
+    }
+
+    private Timer filterTimer(String outcome) {
+        return Timer.builder("ems.jwt.filter")
+                .description("Time spent verifying the bearer token and resolving the principal")
+                .tag("outcome", outcome)
+                .tag("principal.source", principalSource.name().toLowerCase())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
+        long startedAt = System.nanoTime();
+        Timer outcome = authenticate(request);
+        outcome.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        filterChain.doFilter(request, response);
+    }
 
+    private Timer authenticate(HttpServletRequest request) {
         final String authorizationHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwt = null;
+        VerifiedToken token = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
-            username = jwtUtil.extractUsername(jwt);
+            try {
+                // Signature and expiry are checked here, once per request
+                token = jwtUtil.verify(authorizationHeader.substring(7));
+            } catch (JwtException | IllegalArgumentException e) {
+                // Invalid or expired token: continue unauthenticated and let authorization reject the request
+                return rejectedTimer;
+            }
+        }
+        if (token == null) {
+            return anonymousTimer;
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = resolvePrincipal(token);
 
-            if (jwtUtil.validateToken(jwt, userDetails)) {
+            if (userDetails != null && token.getSubject().equals(userDetails.getUsername())) {
                 UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 usernamePasswordAuthenticationToken
                         .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+            } else {
+                return rejectedTimer;
             }
         }
-        filterChain.doFilter(request, response);
+        return authenticatedTimer;
+    }
+
+    private UserDetails resolvePrincipal(VerifiedToken token) {
+        String username = token.getSubject();
+        switch (principalSource) {
+            case CLAIMS -> {
+                String role = token.getRole();
+                if (role == null || principalCache.isRevoked(username, token.getIssuedAt())) {
+                    return null;
+                }
+                return new JwtPrincipal(username, role);
+            }
+            case CACHE -> {
+                UserDetails cached = principalCache.get(username);
+                if (cached == null) {
+                    UserDetails loaded = loadEnabledUser(username);
+                    if (loaded == null) {
+                        return null;
+                    }
+                    cached = JwtPrincipal.from(loaded);
+                    principalCache.put(username, cached);
+                }
+                return cached;
+            }
+            default -> {
+                return loadEnabledUser(username);
+            }
+        }
+    }
+
+    // Null once the employee is deleted: marked deleted (disabled) while a background purge runs, or gone
+    private UserDetails loadEnabledUser(String username) {
+        UserDetails userDetails;
+        try {
+            userDetails = userDetailsService.loadUserByUsername(username);
+        } catch (EmployeeNotFoundException | UsernameNotFoundException e) {
+            return null;
+        }
+        return userDetails.isEnabled() ? userDetails : null;
     }
 }
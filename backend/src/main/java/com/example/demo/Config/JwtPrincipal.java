@@ -0,0 +1,43 @@
+package com.example.demo.Config;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Lightweight authenticated principal built from a verified token or a cached lookup,
+ * so authenticated requests do not need the full Employee entity.
+ */
+public class JwtPrincipal implements UserDetails {
+
+    private final String username;
+    private final List<GrantedAuthority> authorities;
+
+    public JwtPrincipal(String username, String role) {
+        this.username = username;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+
+    public static JwtPrincipal from(UserDetails userDetails) {
+        String role = userDetails.getAuthorities().iterator().next().getAuthority().substring("ROLE_".length());
+        return new JwtPrincipal(userDetails.getUsername(), role);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.demo.Config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.service.MonthlyAttendanceService;
+
+/**
+ * Builds attendance_monthly on startup when attendance exists but the aggregate is empty, which is
+ * the case on the first start after the table was introduced. Later rebuilds are triggered through
+ * POST /api/v1/attendance/monthly/rebuild.
+ */
+@Component
+@ConditionalOnProperty(name = "attendance.monthly.backfill-on-startup", havingValue = "true", matchIfMissing = true)
+public class MonthlyAttendanceBackfill implements ApplicationRunner {
+
+    private final MonthlyAttendanceService monthlyAttendanceService;
+
+    @Autowired
+    public MonthlyAttendanceBackfill(MonthlyAttendanceService monthlyAttendanceService) {
+        this.monthlyAttendanceService = monthlyAttendanceService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (monthlyAttendanceService.isMissing()) {
+            monthlyAttendanceService.rebuild();
+        }
+    }
+}
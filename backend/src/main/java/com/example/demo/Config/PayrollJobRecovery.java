@@ -0,0 +1,30 @@
+package com.example.demo.Config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.service.PayrollJobService;
+
+/**
+ * Resubmits payroll jobs that were queued or running when the application last stopped. Their
+ * stored salaries are kept; the resumed job only pays the employees still missing a salary.
+ */
+@Component
+@ConditionalOnProperty(name = "payroll.jobs.resume-on-startup", havingValue = "true", matchIfMissing = true)
+public class PayrollJobRecovery implements ApplicationRunner {
+
+    private final PayrollJobService payrollJobService;
+
+    @Autowired
+    public PayrollJobRecovery(PayrollJobService payrollJobService) {
+        this.payrollJobService = payrollJobService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        payrollJobService.resumeUnfinished();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.demo.Config;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * Worker pool for payroll jobs, kept apart from the request threads so a large payroll cannot starve
+ * them. Deliberately not an Executor bean: one would make Spring Boot back off from its own
+ * applicationTaskExecutor, which async MVC responses (the exports) rely on.
+ */
+@Component
+public class PayrollJobWorkers implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+
+    @Autowired
+    public PayrollJobWorkers(@Value("${payroll.jobs.threads:2}") int threads,
+                             @Value("${payroll.jobs.queue-capacity:50}") int queueCapacity,
+                             MeterRegistry meterRegistry) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "payroll-job-" + threadNumber.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "payroll.jobs", List.of()).bindTo(meterRegistry);
+    }
+
+    /**
+     * @throws java.util.concurrent.RejectedExecutionException when every worker is busy and the queue is full
+     */
+    public void execute(Runnable job) {
+        executor.execute(job);
+    }
+
+    public ThreadPoolExecutor getExecutor() {
+        return executor;
+    }
+
+    public boolean isShuttingDown() {
+        return executor.isShutdown();
+    }
+
+    // Running jobs are interrupted; they stay RUNNING and are resumed on the next start, however the
+    // interrupt surfaces (PayrollJobService does not mark a job failed once shutdown has begun)
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.demo.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded LRU cache of authenticated principals keyed by username (email), plus a record of
+ * when each username was last invalidated so that tokens issued before a password change or
+ * deletion are rejected when principals are built from token claims.
+ */
+@Component
+public class PrincipalCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final long tokenLifetimeMillis;
+    private final Map<String, Entry> entries;
+    private final Map<String, Long> revokedAt = new ConcurrentHashMap<>();
+
+    public PrincipalCache(@Value("${jwt.principal-cache.max-size:10000}") int maxSize,
+                          @Value("${jwt.principal-cache.ttl-seconds:300}") long ttlSeconds,
+                          @Value("${jwt.expiration:86400000}") long tokenLifetimeMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.tokenLifetimeMillis = tokenLifetimeMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > PrincipalCache.this.maxSize;
+            }
+        };
+    }
+
+    public UserDetails get(String username) {
+        synchronized (entries) {
+            Entry entry = entries.get(username);
+            if (entry == null) {
+                return null;
+            }
+            if (System.currentTimeMillis() - entry.cachedAt > ttlMillis) {
+                entries.remove(username);
+                return null;
+            }
+            return entry.principal;
+        }
+    }
+
+    public void put(String username, UserDetails principal) {
+        synchronized (entries) {
+            entries.put(username, new Entry(principal, System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * Drops the cached principal without revoking any token, for changes that leave the
+     * credentials themselves valid (such as rehashing the same password).
+     */
+    public void evict(String username) {
+        synchronized (entries) {
+            entries.remove(username);
+        }
+    }
+
+    /**
+     * Drops the cached principal and revokes every token for this username issued before now.
+     */
+    public void invalidate(String username) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            entries.remove(username);
+        }
+        revokedAt.put(username, now);
+        // Revocations older than the token lifetime can no longer match a valid token
+        revokedAt.values().removeIf(time -> now - time > tokenLifetimeMillis);
+    }
+
+    public boolean isRevoked(String username, Date issuedAt) {
+        Long revoked = revokedAt.get(username);
+        if (revoked == null) {
+            return false;
+        }
+        // Token timestamps have second precision, so compare against the start of the revocation second
+        return issuedAt == null || issuedAt.getTime() < revoked - (revoked % 1000);
+    }
+
+    private record Entry(UserDetails principal, long cachedAt) {
+    }
+}
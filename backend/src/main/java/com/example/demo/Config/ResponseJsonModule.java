@@ -0,0 +1,207 @@
+package com.example.demo.Config;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.dto.AttendanceResponseDTO;
+import com.example.demo.dto.EmployeeResponseDTO;
+import com.example.demo.dto.SalaryResponseDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Handwritten serializers for the DTOs returned in large lists (employees, attendance, salaries).
+ * They write the same properties the reflective serializer derives from the getters, with field
+ * names pre-encoded once and ISO dates taken from a small cache, so a list element costs a few
+ * generator calls instead of a reflective walk over its bean properties.
+ * <p>
+ * Spring Boot registers every Module bean with the ObjectMapper used by MVC. The output matches the
+ * default settings (ISO date strings, enum names, nulls included); a new DTO field needs a line here.
+ */
+@Component
+public class ResponseJsonModule extends SimpleModule {
+
+    public ResponseJsonModule() {
+        super("ResponseJsonModule");
+        addSerializer(EmployeeResponseDTO.class, new EmployeeResponseSerializer());
+        addSerializer(AttendanceResponseDTO.class, new AttendanceResponseSerializer());
+        addSerializer(SalaryResponseDTO.class, new SalaryResponseSerializer());
+    }
+
+    private static SerializableString name(String name) {
+        return new SerializedString(name);
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeString(value);
+    }
+
+    private static void writeNumber(JsonGenerator gen, SerializableString name, long value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeNumber(value);
+    }
+
+    private static void writeNumber(JsonGenerator gen, SerializableString name, double value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeNumber(value);
+    }
+
+    private static void writeDate(JsonGenerator gen, SerializableString name, LocalDate value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(IsoDates.format(value));
+        }
+    }
+
+    static final class EmployeeResponseSerializer extends StdSerializer<EmployeeResponseDTO> {
+
+        private static final SerializableString ID = name("id");
+        private static final SerializableString FIRST_NAME = name("firstName");
+        private static final SerializableString LAST_NAME = name("lastName");
+        private static final SerializableString ADDRESS = name("address");
+        private static final SerializableString PHONE = name("phone");
+        private static final SerializableString EMAIL = name("email");
+        private static final SerializableString AGE = name("age");
+        private static final SerializableString NIC = name("nic");
+        private static final SerializableString DEPARTMENT_ID = name("department_id");
+        private static final SerializableString ROLE = name("role");
+
+        EmployeeResponseSerializer() {
+            super(EmployeeResponseDTO.class);
+        }
+
+        @Override
+        public void serialize(EmployeeResponseDTO dto, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(dto);
+            writeString(gen, ID, dto.getId());
+            writeString(gen, FIRST_NAME, dto.getFirstName());
+            writeString(gen, LAST_NAME, dto.getLastName());
+            writeString(gen, ADDRESS, dto.getAddress());
+            writeString(gen, PHONE, dto.getPhone());
+            writeString(gen, EMAIL, dto.getEmail());
+            writeNumber(gen, AGE, dto.getAge());
+            writeString(gen, NIC, dto.getNic());
+            writeString(gen, DEPARTMENT_ID, dto.getDepartment_id());
+            writeString(gen, ROLE, dto.getRole() == null ? null : dto.getRole().name());
+            gen.writeEndObject();
+        }
+    }
+
+    static final class AttendanceResponseSerializer extends StdSerializer<AttendanceResponseDTO> {
+
+        private static final SerializableString ID = name("id");
+        private static final SerializableString EMPLOYEE_ID = name("employee_id");
+        private static final SerializableString DATE = name("date");
+        private static final SerializableString STATUS = name("status");
+        private static final SerializableString OVER_TIME_HOURS = name("overTimeHours");
+
+        AttendanceResponseSerializer() {
+            super(AttendanceResponseDTO.class);
+        }
+
+        @Override
+        public void serialize(AttendanceResponseDTO dto, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(dto);
+            gen.writeFieldName(ID);
+            if (dto.getId() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(dto.getId());
+            }
+            writeString(gen, EMPLOYEE_ID, dto.getEmployee_id());
+            writeDate(gen, DATE, dto.getDate());
+            writeString(gen, STATUS, dto.getStatus());
+            gen.writeFieldName(OVER_TIME_HOURS);
+            if (dto.getOverTimeHours() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(dto.getOverTimeHours());
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    static final class SalaryResponseSerializer extends StdSerializer<SalaryResponseDTO> {
+
+        private static final SerializableString ID = name("id");
+        private static final SerializableString EMPLOYEE_ID = name("employee_id");
+        private static final SerializableString START_DATE = name("startDate");
+        private static final SerializableString END_DATE = name("endDate");
+        private static final SerializableString DEPARTMENT_ID = name("department_id");
+        private static final SerializableString BASE_SALARY = name("baseSalary");
+        private static final SerializableString DAYS_PRESENT = name("daysPRESENT");
+        private static final SerializableString DAYS_LEAVE = name("daysLEAVE");
+        private static final SerializableString DAYS_NO_PAY = name("daysNO_PAY");
+        private static final SerializableString DAYS_HALF_DAY = name("daysHALF_DAY");
+        private static final SerializableString DEDUCTION = name("deduction");
+        private static final SerializableString BONUS = name("bonus");
+        private static final SerializableString OVER_TIME_HOURS = name("overTimeHours");
+        private static final SerializableString OVER_TIME_RATE = name("overTimeRate");
+        private static final SerializableString OVER_TIME_PAY = name("overTimePay");
+        private static final SerializableString TOTAL_SALARY = name("totalSalary");
+
+        SalaryResponseSerializer() {
+            super(SalaryResponseDTO.class);
+        }
+
+        @Override
+        public void serialize(SalaryResponseDTO dto, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(dto);
+            writeNumber(gen, ID, dto.getId());
+            writeString(gen, EMPLOYEE_ID, dto.getEmployee_id());
+            writeDate(gen, START_DATE, dto.getStartDate());
+            writeDate(gen, END_DATE, dto.getEndDate());
+            writeString(gen, DEPARTMENT_ID, dto.getDepartment_id());
+            writeNumber(gen, BASE_SALARY, dto.getBaseSalary());
+            writeNumber(gen, DAYS_PRESENT, dto.getDaysPRESENT());
+            writeNumber(gen, DAYS_LEAVE, dto.getDaysLEAVE());
+            writeNumber(gen, DAYS_NO_PAY, dto.getDaysNO_PAY());
+            writeNumber(gen, DAYS_HALF_DAY, dto.getDaysHALF_DAY());
+            writeNumber(gen, DEDUCTION, dto.getDeduction());
+            writeNumber(gen, BONUS, dto.getBonus());
+            writeNumber(gen, OVER_TIME_HOURS, dto.getOverTimeHours());
+            writeNumber(gen, OVER_TIME_RATE, dto.getOverTimeRate());
+            writeNumber(gen, OVER_TIME_PAY, dto.getOverTimePay());
+            writeNumber(gen, TOTAL_SALARY, dto.getTotalSalary());
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * ISO-8601 text of recently written dates. A list usually repeats a handful of days (attendance
+     * of one date, salaries of one period), so each is formatted once. Slots are overwritten without
+     * locking; a lost race only costs another format.
+     */
+    static final class IsoDates {
+
+        private static final int SLOTS = 1024;
+        private static final Entry[] CACHE = new Entry[SLOTS];
+
+        private record Entry(long epochDay, String text) {
+        }
+
+        private IsoDates() {
+        }
+
+        static String format(LocalDate date) {
+            long epochDay = date.toEpochDay();
+            int slot = (int) Math.floorMod(epochDay, (long) SLOTS);
+            Entry entry = CACHE[slot];
+            if (entry == null || entry.epochDay() != epochDay) {
+                // LocalDate.toString() is ISO_LOCAL_DATE, the format Jackson's default LocalDate serializer writes
+                entry = new Entry(epochDay, date.toString());
+                CACHE[slot] = entry;
+            }
+            return entry.text();
+        }
+    }
+}
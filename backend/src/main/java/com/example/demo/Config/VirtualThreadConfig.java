@@ -0,0 +1,70 @@
+package com.example.demo.Config;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Extras for spring.threads.virtual.enabled=true, where Tomcat and the async task executor run
+ * requests on virtual threads: a database concurrency limit matching the Hikari pool and
+ * reporting of virtual threads pinned while blocked.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            @Value("${db.concurrency.acquire-timeout:5s}") Duration acquireTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    // Pool properties are bound by now, so the limit follows spring.datasource.hikari.maximum-pool-size
+                    return new ConnectionLimitingDataSource(hikari, hikari.getMaximumPoolSize(), acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionLimitMetrics(DataSource dataSource) {
+        return registry -> {
+            try {
+                if (!dataSource.isWrapperFor(ConnectionLimitingDataSource.class)) {
+                    return;
+                }
+                ConnectionLimitingDataSource limited = dataSource.unwrap(ConnectionLimitingDataSource.class);
+                Gauge.builder("ems.db.permits.available", limited, ConnectionLimitingDataSource::getAvailablePermits)
+                        .description("Database connection permits currently free")
+                        .register(registry);
+                Gauge.builder("ems.db.permits.waiting", limited, ConnectionLimitingDataSource::getQueueLength)
+                        .description("Threads waiting for a database connection permit")
+                        .register(registry);
+            } catch (SQLException e) {
+                throw new IllegalStateException("Cannot inspect the data source", e);
+            }
+        };
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(MeterRegistry meterRegistry,
+            @Value("${virtual-threads.pinning.threshold:20ms}") Duration threshold) {
+        return new VirtualThreadPinningMonitor(meterRegistry, threshold);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.demo.Config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Streams the JDK's jdk.VirtualThreadPinned events in-process. Each pinning longer than the threshold
+ * (a virtual thread blocking while it cannot unmount, e.g. inside synchronized) is recorded in the
+ * ems.virtual.threads.pinned timer, tagged with the library on the stack, and logged with its top frames.
+ */
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public synchronized void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Reporting virtual thread pinning longer than {}", threshold);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = frames(event);
+        String source = source(frames);
+        Timer.builder("ems.virtual.threads.pinned")
+                .description("Time virtual threads spent pinned to their carrier while blocked")
+                .tag("source", source)
+                .register(meterRegistry)
+                .record(event.getDuration());
+        log.warn("Virtual thread pinned for {} ms in {}:\n\t{}", event.getDuration().toMillis(), source,
+                frames.stream().limit(LOGGED_FRAMES).map(VirtualThreadPinningMonitor::describe).collect(Collectors.joining("\n\t")));
+    }
+
+    private static List<RecordedFrame> frames(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        return stackTrace == null ? List.of() : stackTrace.getFrames();
+    }
+
+    // The outermost library frame decides the tag: the JDBC driver, the pool, Hibernate or our own code
+    private static String source(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith("com.mysql.")) {
+                return "jdbc-driver";
+            }
+            if (type.startsWith("com.zaxxer.hikari.")) {
+                return "connection-pool";
+            }
+            if (type.startsWith("org.hibernate.")) {
+                return "hibernate";
+            }
+            if (type.startsWith("com.example.demo.")) {
+                return "application";
+            }
+        }
+        return "other";
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.Util;
+
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+public final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * Answers 304 when the request's If-None-Match carries the current ETag, without calling body.
+     * Otherwise returns body with the ETag. Responses are marked no-cache (rather than the no-store
+     * Spring Security adds by default) so clients keep them and revalidate on the next poll.
+     */
+    public static <T> ResponseEntity<T> ifNoneMatch(WebRequest request, String etag, Supplier<T> body) {
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(body.get());
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.demo.Util;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * A token whose signature and expiry have been checked once by {@link JwtUtil#verify(String)}.
+ * Immutable, so it can be handed around instead of re-parsing the raw token.
+ */
+public final class VerifiedToken {
+
+    private final Claims claims;
+
+    VerifiedToken(Claims claims) {
+        this.claims = claims;
+    }
+
+    public String getSubject() {
+        return claims.getSubject();
+    }
+
+    public String getRole() {
+        return claims.get("role", String.class);
+    }
+
+    public Date getIssuedAt() {
+        return claims.getIssuedAt();
+    }
+
+    public Date getExpiration() {
+        return claims.getExpiration();
+    }
+
+    public <T> T getClaim(String name, Class<T> type) {
+        return claims.get(name, type);
+    }
+}
@@ -1,28 +1,40 @@
 package com.example.demo.controller;
 
+import com.example.demo.Util.ConditionalGet;
+import com.example.demo.dto.AttendanceBatchResultDTO;
 import com.example.demo.dto.AttendanceCreateDTO;
+import com.example.demo.dto.AttendanceMatrixDTO;
 import com.example.demo.dto.AttendanceResponseDTO;
+import com.example.demo.dto.AttendanceSummaryDTO;
 import com.example.demo.dto.AttendanceUpdateDTO;
 import com.example.demo.model.Attendance;
 import com.example.demo.service.AttendanceService;
+import com.example.demo.service.MonthlyAttendanceService;
+import com.example.demo.service.TableVersions;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping(path = "api/v1/attendance")
 public class AttendanceController {
 
     private final AttendanceService attendanceService;
+    private final MonthlyAttendanceService monthlyAttendanceService;
+    private final TableVersions tableVersions;
 
     @Autowired
-    public AttendanceController(AttendanceService attendanceService) {
+    public AttendanceController(AttendanceService attendanceService, MonthlyAttendanceService monthlyAttendanceService, TableVersions tableVersions) {
         this.attendanceService = attendanceService;
+        this.monthlyAttendanceService = monthlyAttendanceService;
+        this.tableVersions = tableVersions;
     }
 
 
@@ -33,6 +45,13 @@ public class AttendanceController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
+    public ResponseEntity<AttendanceBatchResultDTO> createAttendanceBatch(@RequestBody List<AttendanceCreateDTO> dtos) {
+        AttendanceBatchResultDTO result = attendanceService.createAttendanceBatch(dtos);
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+
     @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
     @GetMapping("/employee/{id}/date={date}")
     public ResponseEntity<AttendanceResponseDTO> getAttendanceByEmployeeIdAndDate(@PathVariable String id, @PathVariable LocalDate date) {
@@ -42,23 +61,25 @@ public class AttendanceController {
 
     @GetMapping("/date={date}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
-    public ResponseEntity<List<AttendanceResponseDTO>> getAttendanceByDate(@PathVariable LocalDate date) {
-        List<AttendanceResponseDTO> attendances = attendanceService.getAttendanceByDate(date);
-        return ResponseEntity.status(HttpStatus.OK).body(attendances);
+    public ResponseEntity<List<AttendanceResponseDTO>> getAttendanceByDate(@PathVariable LocalDate date, WebRequest request) {
+        return ConditionalGet.ifNoneMatch(request, tableVersions.etag(TableVersions.Table.ATTENDANCE),
+                () -> attendanceService.getAttendanceByDate(date));
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
     @GetMapping("/date/{date}/status/{status}")
-    public ResponseEntity<List<AttendanceResponseDTO>> getAttendanceByDateAndStatus(@PathVariable LocalDate date, @PathVariable Attendance.AttendanceStatus status) {
-        List<AttendanceResponseDTO> attendances = attendanceService.getAttendanceByDateAndStatus(date, status);
-        return ResponseEntity.status(HttpStatus.OK).body(attendances);
+    public ResponseEntity<List<AttendanceResponseDTO>> getAttendanceByDateAndStatus(@PathVariable LocalDate date, @PathVariable Attendance.AttendanceStatus status,
+                                                                                    WebRequest request) {
+        return ConditionalGet.ifNoneMatch(request, tableVersions.etag(TableVersions.Table.ATTENDANCE),
+                () -> attendanceService.getAttendanceByDateAndStatus(date, status));
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
     @GetMapping("/date/{date}/department/{department_id}")
-    public ResponseEntity<List<AttendanceResponseDTO>> getAttendancesByDateAndDepartmentId(@PathVariable LocalDate date, @PathVariable String department_id) {
-        List<AttendanceResponseDTO> attendances = attendanceService.getAttendancesByDateAndDepartmentId(date, department_id);
-        return ResponseEntity.status(HttpStatus.OK).body(attendances);
+    public ResponseEntity<List<AttendanceResponseDTO>> getAttendancesByDateAndDepartmentId(@PathVariable LocalDate date, @PathVariable String department_id,
+                                                                                           WebRequest request) {
+        return ConditionalGet.ifNoneMatch(request, tableVersions.etag(TableVersions.Table.ATTENDANCE),
+                () -> attendanceService.getAttendancesByDateAndDepartmentId(date, department_id));
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('HR') or hasRole('USER')")
@@ -71,10 +92,38 @@ public class AttendanceController {
         return ResponseEntity.status(HttpStatus.OK).body(attendances);
     }
 
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
+    @GetMapping("/employee/{id}/summary")
+    public ResponseEntity<AttendanceSummaryDTO> getAttendanceSummary(
+            @PathVariable String id,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate) {
+        AttendanceSummaryDTO summary = attendanceService.getAttendanceSummary(id, startDate, endDate);
+        return ResponseEntity.status(HttpStatus.OK).body(summary);
+    }
+
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
+    @GetMapping("/matrix")
+    public ResponseEntity<AttendanceMatrixDTO> getAttendanceMatrix(
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate,
+            @RequestParam(required = false) String departmentId) {
+        AttendanceMatrixDTO matrix = attendanceService.getAttendanceMatrix(startDate, endDate, departmentId);
+        return ResponseEntity.status(HttpStatus.OK).body(matrix);
+    }
+
     @PutMapping("/update/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
     public ResponseEntity<AttendanceResponseDTO> updateAttendance(@PathVariable Long id, @RequestBody AttendanceUpdateDTO dto) {
         AttendanceResponseDTO updatedAttendance = attendanceService.updateAttendance(id, dto);
         return ResponseEntity.status(HttpStatus.OK).body(updatedAttendance);
     }
+
+    // Regenerates the monthly attendance aggregate from the daily rows
+    @PostMapping("/monthly/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Integer>> rebuildMonthlyAttendance() {
+        int rows = monthlyAttendanceService.rebuild();
+        return ResponseEntity.status(HttpStatus.OK).body(Map.of("employeeMonths", rows));
+    }
 }
@@ -13,20 +13,25 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.example.demo.Util.ConditionalGet;
 import com.example.demo.dto.DepartmentCreateDTO;
 import com.example.demo.dto.DepartmentResponseDTO;
 import com.example.demo.dto.DepartmentUpdateDTO;
 import com.example.demo.service.DepartmentService;
+import com.example.demo.service.TableVersions;
 
 @RestController
 @RequestMapping(path = "api/v1/department")
 public class DepartmentController {
 
     private final DepartmentService departmentService;
+    private final TableVersions tableVersions;
 
-    public DepartmentController(DepartmentService departmentService) {
+    public DepartmentController(DepartmentService departmentService, TableVersions tableVersions) {
         this.departmentService = departmentService;
+        this.tableVersions = tableVersions;
     }
 
     @PostMapping("/create")
@@ -38,9 +43,9 @@ public class DepartmentController {
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
     @GetMapping("getAll")
-    public ResponseEntity<List<DepartmentResponseDTO>> getAllDepartments() {
-        List<DepartmentResponseDTO> departments = departmentService.getAllDepartments();
-        return ResponseEntity.ok(departments);
+    public ResponseEntity<List<DepartmentResponseDTO>> getAllDepartments(WebRequest request) {
+        return ConditionalGet.ifNoneMatch(request, tableVersions.etag(TableVersions.Table.DEPARTMENT),
+                departmentService::getAllDepartments);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
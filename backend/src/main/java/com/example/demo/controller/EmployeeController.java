@@ -13,23 +13,32 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.example.demo.Util.ConditionalGet;
 import com.example.demo.dto.EmployeeCreateDTO;
+import com.example.demo.dto.EmployeePageDTO;
 import com.example.demo.dto.EmployeeResponseDTO;
+import com.example.demo.dto.EmployeeSearchPageDTO;
 import com.example.demo.dto.EmployeeUpdateDTO;
 import com.example.demo.dto.PasswordUpdateDTO;
+import com.example.demo.model.Role;
 import com.example.demo.service.EmployeeService;
+import com.example.demo.service.TableVersions;
 
 @RestController
 @RequestMapping(path = "api/v1/employee")
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final TableVersions tableVersions;
 
     @Autowired
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, TableVersions tableVersions) {
         this.employeeService = employeeService;
+        this.tableVersions = tableVersions;
     }
 
     @PostMapping
@@ -42,9 +51,32 @@ public class EmployeeController {
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
-    public ResponseEntity<List<EmployeeResponseDTO>> getAllEmployees() {
-        List<EmployeeResponseDTO> employees = employeeService.getAllEmployees();
-        return ResponseEntity.ok(employees);
+    public ResponseEntity<List<EmployeeResponseDTO>> getAllEmployees(WebRequest request) {
+        return ConditionalGet.ifNoneMatch(request, tableVersions.etag(TableVersions.Table.EMPLOYEE),
+                employeeService::getAllEmployees);
+    }
+
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
+    public ResponseEntity<EmployeePageDTO> getEmployeePage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) String departmentId,
+            @RequestParam(required = false) Role role) {
+        EmployeePageDTO page = employeeService.getEmployeePage(cursor, size, sort, direction, departmentId, role);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
+    public ResponseEntity<EmployeeSearchPageDTO> searchEmployees(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        EmployeeSearchPageDTO result = employeeService.searchEmployees(q, page, size);
+        return ResponseEntity.ok(result);
     }
 
     @GetMapping("/{id}")
@@ -63,8 +95,9 @@ public class EmployeeController {
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
-    public ResponseEntity<EmployeeResponseDTO> deleteEmployee(@PathVariable String id) {
-        employeeService.deleteEmployee(id);
+    public ResponseEntity<EmployeeResponseDTO> deleteEmployee(@PathVariable String id,
+                                                              @RequestParam(required = false) String mode) {
+        employeeService.deleteEmployee(id, mode);
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
 
@@ -0,0 +1,75 @@
+package com.example.demo.controller;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import com.example.demo.service.ExportFormat;
+import com.example.demo.service.ExportService;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Exports are written to the response on an async thread. Each gets export.request-timeout rather
+ * than the application-wide async timeout, which stays at its default for every other endpoint.
+ */
+@RestController
+@RequestMapping(path = "api/v1/export")
+public class ExportController {
+
+    private final ExportService exportService;
+    private final long requestTimeoutMs;
+
+    @Autowired
+    public ExportController(ExportService exportService, @Value("${export.request-timeout:30m}") Duration requestTimeout) {
+        this.exportService = exportService;
+        this.requestTimeoutMs = requestTimeout.toMillis();
+    }
+
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
+    @GetMapping("/attendance")
+    public WebAsyncTask<Void> exportAttendance(
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate,
+            @RequestParam(required = false) String departmentId,
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletResponse response) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        exportService.validateRange(startDate, endDate);
+        prepareResponse(response, exportFormat, "attendance_" + startDate + "_" + endDate);
+        return new WebAsyncTask<>(requestTimeoutMs, () -> {
+            exportService.writeAttendance(response.getOutputStream(), startDate, endDate, departmentId, exportFormat);
+            return null;
+        });
+    }
+
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
+    @GetMapping("/salary")
+    public WebAsyncTask<Void> exportSalaries(
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate,
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletResponse response) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        exportService.validateRange(startDate, endDate);
+        prepareResponse(response, exportFormat, "salary_" + startDate + "_" + endDate);
+        return new WebAsyncTask<>(requestTimeoutMs, () -> {
+            exportService.writeSalaries(response.getOutputStream(), startDate, endDate, exportFormat);
+            return null;
+        });
+    }
+
+    private static void prepareResponse(HttpServletResponse response, ExportFormat format, String baseName) {
+        response.setContentType(format.getMediaType().toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + baseName + "." + format.getExtension() + "\"");
+    }
+}
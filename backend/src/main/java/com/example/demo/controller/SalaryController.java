@@ -1,5 +1,6 @@
 package com.example.demo.controller;
 
+import java.net.URI;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,18 +14,24 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.demo.dto.PayrollJobDTO;
+import com.example.demo.dto.PayrollRunRequestDTO;
+import com.example.demo.dto.PayrollRunSummaryDTO;
 import com.example.demo.dto.SalaryCreateDTO;
 import com.example.demo.dto.SalaryResponseDTO;
+import com.example.demo.service.PayrollJobService;
 import com.example.demo.service.SalaryService;
 
 @RestController
 @RequestMapping(path = "api/v1/salary")
 public class SalaryController {
     private final SalaryService salaryService;
+    private final PayrollJobService payrollJobService;
 
     @Autowired
-    public SalaryController(SalaryService salaryService) {
+    public SalaryController(SalaryService salaryService, PayrollJobService payrollJobService) {
         this.salaryService = salaryService;
+        this.payrollJobService = payrollJobService;
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
@@ -34,6 +41,28 @@ public class SalaryController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
+    @PostMapping("/payroll-run")
+    public ResponseEntity<PayrollRunSummaryDTO> runPayroll(@RequestBody PayrollRunRequestDTO dto) {
+        PayrollRunSummaryDTO summary = salaryService.runPayroll(dto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(summary);
+    }
+
+    // Runs the payroll in the background; poll the returned job for progress and errors
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
+    @PostMapping("/payroll-jobs")
+    public ResponseEntity<PayrollJobDTO> submitPayrollJob(@RequestBody PayrollRunRequestDTO dto) {
+        PayrollJobDTO job = payrollJobService.submit(dto);
+        return ResponseEntity.accepted().location(URI.create("/api/v1/salary/payroll-jobs/" + job.getId())).body(job);
+    }
+
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
+    @GetMapping("/payroll-jobs/{id}")
+    public ResponseEntity<PayrollJobDTO> getPayrollJob(@PathVariable Long id) {
+        PayrollJobDTO job = payrollJobService.getJob(id);
+        return ResponseEntity.status(HttpStatus.OK).body(job);
+    }
+
     @PreAuthorize("hasRole('ADMIN') or hasRole('HR') or hasRole('USER')")
     @GetMapping("/getByEmpId/{id}")
     public ResponseEntity<List<SalaryResponseDTO>> getSalaryByEmployeeId(@PathVariable String id) {
@@ -0,0 +1,42 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+public class AttendanceBatchResultDTO {
+    private int received;
+    private int accepted;
+    private int rejected;
+    private List<AttendanceBatchRowDTO> rows;
+
+    public int getReceived() {
+        return received;
+    }
+
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    public int getAccepted() {
+        return accepted;
+    }
+
+    public void setAccepted(int accepted) {
+        this.accepted = accepted;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<AttendanceBatchRowDTO> getRows() {
+        return rows;
+    }
+
+    public void setRows(List<AttendanceBatchRowDTO> rows) {
+        this.rows = rows;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+
+public class AttendanceBatchRowDTO {
+    private int index; // position of the row in the submitted batch
+    private String employee_id;
+    private LocalDate date;
+    private boolean accepted;
+    private String reason; // why the row was rejected, null when accepted
+
+    public AttendanceBatchRowDTO() {
+    }
+
+    public AttendanceBatchRowDTO(int index, String employee_id, LocalDate date, boolean accepted, String reason) {
+        this.index = index;
+        this.employee_id = employee_id;
+        this.date = date;
+        this.accepted = accepted;
+        this.reason = reason;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getEmployee_id() {
+        return employee_id;
+    }
+
+    public void setEmployee_id(String employee_id) {
+        this.employee_id = employee_id;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public boolean isAccepted() {
+        return accepted;
+    }
+
+    public void setAccepted(boolean accepted) {
+        this.accepted = accepted;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+}
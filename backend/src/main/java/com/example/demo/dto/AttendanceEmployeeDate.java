@@ -0,0 +1,9 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+
+// Projection of the (employee, date) key of an attendance row
+public interface AttendanceEmployeeDate {
+    String getEmployeeId();
+    LocalDate getDate();
+}
@@ -0,0 +1,49 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+
+import com.example.demo.model.Attendance;
+
+// Read-only row for exports, built by a JPQL constructor expression so nothing is kept in the persistence context
+public class AttendanceExportRow {
+    private final Long id;
+    private final String employee_id;
+    private final String department_id;
+    private final LocalDate date;
+    private final Attendance.AttendanceStatus status;
+    private final double overTimeHours;
+
+    public AttendanceExportRow(Long id, String employee_id, String department_id, LocalDate date,
+                               Attendance.AttendanceStatus status, double overTimeHours) {
+        this.id = id;
+        this.employee_id = employee_id;
+        this.department_id = department_id;
+        this.date = date;
+        this.status = status;
+        this.overTimeHours = overTimeHours;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEmployee_id() {
+        return employee_id;
+    }
+
+    public String getDepartment_id() {
+        return department_id;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public Attendance.AttendanceStatus getStatus() {
+        return status;
+    }
+
+    public double getOverTimeHours() {
+        return overTimeHours;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+
+// Attendance counts of one department on one day
+public class AttendanceMatrixCellDTO {
+    private String department_id;
+    private LocalDate date;
+    private long countPRESENT;
+    private long countHALF_DAY;
+    private long countLEAVE;
+    private long countNO_PAY;
+    private long total;
+
+    public String getDepartment_id() {
+        return department_id;
+    }
+
+    public void setDepartment_id(String department_id) {
+        this.department_id = department_id;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public long getCountPRESENT() {
+        return countPRESENT;
+    }
+
+    public void setCountPRESENT(long countPRESENT) {
+        this.countPRESENT = countPRESENT;
+    }
+
+    public long getCountHALF_DAY() {
+        return countHALF_DAY;
+    }
+
+    public void setCountHALF_DAY(long countHALF_DAY) {
+        this.countHALF_DAY = countHALF_DAY;
+    }
+
+    public long getCountLEAVE() {
+        return countLEAVE;
+    }
+
+    public void setCountLEAVE(long countLEAVE) {
+        this.countLEAVE = countLEAVE;
+    }
+
+    public long getCountNO_PAY() {
+        return countNO_PAY;
+    }
+
+    public void setCountNO_PAY(long countNO_PAY) {
+        this.countNO_PAY = countNO_PAY;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.demo.dto;
+
+import com.example.demo.model.Attendance;
+
+import java.time.LocalDate;
+
+// Projection for one (department, day, status) group of attendance rows
+public interface AttendanceMatrixCount {
+    String getDepartmentId();
+    LocalDate getDate();
+    Attendance.AttendanceStatus getStatus();
+    long getCount();
+}
@@ -0,0 +1,44 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Department x day x status counts; only (department, day) pairs with attendance have a cell
+public class AttendanceMatrixDTO {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String department_id;
+    private List<AttendanceMatrixCellDTO> cells;
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public String getDepartment_id() {
+        return department_id;
+    }
+
+    public void setDepartment_id(String department_id) {
+        this.department_id = department_id;
+    }
+
+    public List<AttendanceMatrixCellDTO> getCells() {
+        return cells;
+    }
+
+    public void setCells(List<AttendanceMatrixCellDTO> cells) {
+        this.cells = cells;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demo.dto;
+
+import com.example.demo.model.Attendance;
+
+/**
+ * Change to apply to one employee's attendance_monthly row. Day counts go negative when an
+ * attendance row leaves a status, e.g. on a status change.
+ */
+public class AttendanceMonthlyDelta {
+    private final String employeeId;
+    private final int attendanceMonth;
+    private int daysPresent;
+    private int daysLeave;
+    private int daysHalfDay;
+    private int daysNoPay;
+    private double overTimeHours;
+
+    public AttendanceMonthlyDelta(String employeeId, int attendanceMonth) {
+        this.employeeId = employeeId;
+        this.attendanceMonth = attendanceMonth;
+    }
+
+    public void add(Attendance.AttendanceStatus status, int days, double overTime) {
+        switch (status) {
+            case PRESENT -> daysPresent += days;
+            case LEAVE -> daysLeave += days;
+            case HALF_DAY -> daysHalfDay += days;
+            case NO_PAY -> daysNoPay += days;
+        }
+        overTimeHours += overTime;
+    }
+
+    public boolean isEmpty() {
+        return daysPresent == 0 && daysLeave == 0 && daysHalfDay == 0 && daysNoPay == 0 && overTimeHours == 0;
+    }
+
+    public String getEmployeeId() {
+        return employeeId;
+    }
+
+    public int getAttendanceMonth() {
+        return attendanceMonth;
+    }
+
+    public int getDaysPresent() {
+        return daysPresent;
+    }
+
+    public int getDaysLeave() {
+        return daysLeave;
+    }
+
+    public int getDaysHalfDay() {
+        return daysHalfDay;
+    }
+
+    public int getDaysNoPay() {
+        return daysNoPay;
+    }
+
+    public double getOverTimeHours() {
+        return overTimeHours;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.demo.dto;
+
+import com.example.demo.model.Attendance;
+
+// Projection for one status group of a single employee's attendance rows within a period
+public interface AttendanceStatusCount {
+    Attendance.AttendanceStatus getStatus();
+    long getDays();
+    double getOverTimeHours();
+}
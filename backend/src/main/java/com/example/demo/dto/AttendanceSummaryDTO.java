@@ -0,0 +1,87 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+
+public class AttendanceSummaryDTO {
+    private String employee_id;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int daysPRESENT;
+    private int daysLEAVE;
+    private int daysHALF_DAY;
+    private int daysNO_PAY;
+    private int totalDays;
+    private double overTimeHours;
+
+    public String getEmployee_id() {
+        return employee_id;
+    }
+
+    public void setEmployee_id(String employee_id) {
+        this.employee_id = employee_id;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public int getDaysPRESENT() {
+        return daysPRESENT;
+    }
+
+    public void setDaysPRESENT(int daysPRESENT) {
+        this.daysPRESENT = daysPRESENT;
+    }
+
+    public int getDaysLEAVE() {
+        return daysLEAVE;
+    }
+
+    public void setDaysLEAVE(int daysLEAVE) {
+        this.daysLEAVE = daysLEAVE;
+    }
+
+    public int getDaysHALF_DAY() {
+        return daysHALF_DAY;
+    }
+
+    public void setDaysHALF_DAY(int daysHALF_DAY) {
+        this.daysHALF_DAY = daysHALF_DAY;
+    }
+
+    public int getDaysNO_PAY() {
+        return daysNO_PAY;
+    }
+
+    public void setDaysNO_PAY(int daysNO_PAY) {
+        this.daysNO_PAY = daysNO_PAY;
+    }
+
+    public int getTotalDays() {
+        return totalDays;
+    }
+
+    public void setTotalDays(int totalDays) {
+        this.totalDays = totalDays;
+    }
+
+    public double getOverTimeHours() {
+        return overTimeHours;
+    }
+
+    public void setOverTimeHours(double overTimeHours) {
+        this.overTimeHours = overTimeHours;
+    }
+}
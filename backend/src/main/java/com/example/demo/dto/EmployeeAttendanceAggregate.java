@@ -0,0 +1,11 @@
+package com.example.demo.dto;
+
+import com.example.demo.model.Attendance;
+
+// Projection for one (employee, status) group of attendance rows within a period
+public interface EmployeeAttendanceAggregate {
+    String getEmployeeId();
+    Attendance.AttendanceStatus getStatus();
+    long getDays();
+    double getOverTimeHours();
+}
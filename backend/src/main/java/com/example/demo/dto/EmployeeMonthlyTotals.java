@@ -0,0 +1,11 @@
+package com.example.demo.dto;
+
+// Projection for one employee's attendance_monthly rows summed over a range of months
+public interface EmployeeMonthlyTotals {
+    String getEmployeeId();
+    long getDaysPresent();
+    long getDaysLeave();
+    long getDaysHalfDay();
+    long getDaysNoPay();
+    double getOverTimeHours();
+}
@@ -0,0 +1,42 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+public class EmployeePageDTO {
+    private List<EmployeeResponseDTO> items;
+    private int size;
+    private boolean hasMore;
+    private String nextCursor; // pass back as ?cursor= to get the following page, null on the last page
+
+    public List<EmployeeResponseDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<EmployeeResponseDTO> items) {
+        this.items = items;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
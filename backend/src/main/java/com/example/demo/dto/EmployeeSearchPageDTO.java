@@ -0,0 +1,51 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+public class EmployeeSearchPageDTO {
+    private String query;
+    private int page; // zero-based
+    private int size;
+    private int total; // matches across all pages
+    private List<EmployeeResponseDTO> items;
+
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public List<EmployeeResponseDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<EmployeeResponseDTO> items) {
+        this.items = items;
+    }
+}
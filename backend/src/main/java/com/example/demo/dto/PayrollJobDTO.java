@@ -0,0 +1,172 @@
+package com.example.demo.dto;
+
+import com.example.demo.model.PayrollJob;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class PayrollJobDTO {
+    private Long id;
+    private PayrollJob.Status status;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String department_id;
+    private long bonus;
+    private int employeesInScope;
+    private int processed;
+    private int salariesCreated;
+    private int skippedExisting;
+    private int failed;
+    private long totalPayout;
+    private int resumed;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private List<PayrollJobErrorDTO> errors;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public PayrollJob.Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(PayrollJob.Status status) {
+        this.status = status;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public String getDepartment_id() {
+        return department_id;
+    }
+
+    public void setDepartment_id(String department_id) {
+        this.department_id = department_id;
+    }
+
+    public long getBonus() {
+        return bonus;
+    }
+
+    public void setBonus(long bonus) {
+        this.bonus = bonus;
+    }
+
+    public int getEmployeesInScope() {
+        return employeesInScope;
+    }
+
+    public void setEmployeesInScope(int employeesInScope) {
+        this.employeesInScope = employeesInScope;
+    }
+
+    public int getProcessed() {
+        return processed;
+    }
+
+    public void setProcessed(int processed) {
+        this.processed = processed;
+    }
+
+    public int getSalariesCreated() {
+        return salariesCreated;
+    }
+
+    public void setSalariesCreated(int salariesCreated) {
+        this.salariesCreated = salariesCreated;
+    }
+
+    public int getSkippedExisting() {
+        return skippedExisting;
+    }
+
+    public void setSkippedExisting(int skippedExisting) {
+        this.skippedExisting = skippedExisting;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public long getTotalPayout() {
+        return totalPayout;
+    }
+
+    public void setTotalPayout(long totalPayout) {
+        this.totalPayout = totalPayout;
+    }
+
+    public int getResumed() {
+        return resumed;
+    }
+
+    public void setResumed(int resumed) {
+        this.resumed = resumed;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public List<PayrollJobErrorDTO> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<PayrollJobErrorDTO> errors) {
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.demo.dto;
+
+import java.time.LocalDateTime;
+
+public class PayrollJobErrorDTO {
+    private String employee_id;
+    private String message;
+    private LocalDateTime occurredAt;
+
+    public String getEmployee_id() {
+        return employee_id;
+    }
+
+    public void setEmployee_id(String employee_id) {
+        this.employee_id = employee_id;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
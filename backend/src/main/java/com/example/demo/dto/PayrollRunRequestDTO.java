@@ -0,0 +1,42 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+
+public class PayrollRunRequestDTO {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String department_id; // optional, whole company when null
+    private long bonus;
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public String getDepartment_id() {
+        return department_id;
+    }
+
+    public void setDepartment_id(String department_id) {
+        this.department_id = department_id;
+    }
+
+    public long getBonus() {
+        return bonus;
+    }
+
+    public void setBonus(long bonus) {
+        this.bonus = bonus;
+    }
+}
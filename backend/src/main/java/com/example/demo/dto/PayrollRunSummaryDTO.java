@@ -0,0 +1,78 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+
+public class PayrollRunSummaryDTO {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String department_id;
+    private int employeesInScope;
+    private int salariesCreated;
+    private int skippedExisting;
+    private long totalPayout;
+    private long durationMs;
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public String getDepartment_id() {
+        return department_id;
+    }
+
+    public void setDepartment_id(String department_id) {
+        this.department_id = department_id;
+    }
+
+    public int getEmployeesInScope() {
+        return employeesInScope;
+    }
+
+    public void setEmployeesInScope(int employeesInScope) {
+        this.employeesInScope = employeesInScope;
+    }
+
+    public int getSalariesCreated() {
+        return salariesCreated;
+    }
+
+    public void setSalariesCreated(int salariesCreated) {
+        this.salariesCreated = salariesCreated;
+    }
+
+    public int getSkippedExisting() {
+        return skippedExisting;
+    }
+
+    public void setSkippedExisting(int skippedExisting) {
+        this.skippedExisting = skippedExisting;
+    }
+
+    public long getTotalPayout() {
+        return totalPayout;
+    }
+
+    public void setTotalPayout(long totalPayout) {
+        this.totalPayout = totalPayout;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+}
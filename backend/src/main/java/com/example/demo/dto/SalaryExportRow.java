@@ -0,0 +1,102 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+
+// Read-only row for exports, built by a JPQL constructor expression so nothing is kept in the persistence context
+public class SalaryExportRow {
+    private final Long id;
+    private final String employee_id;
+    private final String department_id;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final long baseSalary;
+    private final int daysPRESENT;
+    private final int daysLEAVE;
+    private final int daysHALF_DAY;
+    private final int daysNO_PAY;
+    private final double overTimeHours;
+    private final long overTimePay;
+    private final long bonus;
+    private final long deduction;
+    private final long totalSalary;
+
+    public SalaryExportRow(Long id, String employee_id, String department_id, LocalDate startDate, LocalDate endDate,
+                           long baseSalary, int daysPRESENT, int daysLEAVE, int daysHALF_DAY, int daysNO_PAY,
+                           double overTimeHours, long overTimePay, long bonus, long deduction, long totalSalary) {
+        this.id = id;
+        this.employee_id = employee_id;
+        this.department_id = department_id;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.baseSalary = baseSalary;
+        this.daysPRESENT = daysPRESENT;
+        this.daysLEAVE = daysLEAVE;
+        this.daysHALF_DAY = daysHALF_DAY;
+        this.daysNO_PAY = daysNO_PAY;
+        this.overTimeHours = overTimeHours;
+        this.overTimePay = overTimePay;
+        this.bonus = bonus;
+        this.deduction = deduction;
+        this.totalSalary = totalSalary;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEmployee_id() {
+        return employee_id;
+    }
+
+    public String getDepartment_id() {
+        return department_id;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public long getBaseSalary() {
+        return baseSalary;
+    }
+
+    public int getDaysPRESENT() {
+        return daysPRESENT;
+    }
+
+    public int getDaysLEAVE() {
+        return daysLEAVE;
+    }
+
+    public int getDaysHALF_DAY() {
+        return daysHALF_DAY;
+    }
+
+    public int getDaysNO_PAY() {
+        return daysNO_PAY;
+    }
+
+    public double getOverTimeHours() {
+        return overTimeHours;
+    }
+
+    public long getOverTimePay() {
+        return overTimePay;
+    }
+
+    public long getBonus() {
+        return bonus;
+    }
+
+    public long getDeduction() {
+        return deduction;
+    }
+
+    public long getTotalSalary() {
+        return totalSalary;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.demo.exception;
+
+public class PayrollJobConflictException extends RuntimeException {
+    public PayrollJobConflictException(String message) {
+        super(message);
+    }
+}
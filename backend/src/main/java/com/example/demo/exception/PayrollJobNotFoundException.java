@@ -0,0 +1,7 @@
+package com.example.demo.exception;
+
+public class PayrollJobNotFoundException extends RuntimeException {
+    public PayrollJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.demo.exception;
+
+public class PayrollJobQueueFullException extends RuntimeException {
+    public PayrollJobQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.demo.exception;
+
+public class SalaryAlreadyExistsException extends RuntimeException {
+    public SalaryAlreadyExistsException(String message) {
+        super(message);
+    }
+}
@@ -4,9 +4,13 @@ import org.springframework.stereotype.Component;
 
 import com.example.demo.dto.AttendanceCreateDTO;
 import com.example.demo.dto.AttendanceResponseDTO;
+import com.example.demo.dto.AttendanceSummaryDTO;
+import com.example.demo.service.AttendanceTotals;
 import com.example.demo.model.Attendance;
 import com.example.demo.model.Employee;
 
+import java.time.LocalDate;
+
 @Component
 public class AttendanceMapper {
      public Attendance toEntity(AttendanceCreateDTO dto, Employee employee) {
@@ -28,4 +32,18 @@ public class AttendanceMapper {
          responseDTO.setOverTimeHours(savedattendance.getOverTimeHours());
          return responseDTO;
      }
+
+     public AttendanceSummaryDTO toSummaryDTO(String employeeId, LocalDate startDate, LocalDate endDate, AttendanceTotals totals) {
+         AttendanceSummaryDTO summaryDTO = new AttendanceSummaryDTO();
+         summaryDTO.setEmployee_id(employeeId);
+         summaryDTO.setStartDate(startDate);
+         summaryDTO.setEndDate(endDate);
+         summaryDTO.setDaysPRESENT(totals.getDaysPresent());
+         summaryDTO.setDaysLEAVE(totals.getDaysLeave());
+         summaryDTO.setDaysHALF_DAY(totals.getDaysHalfDay());
+         summaryDTO.setDaysNO_PAY(totals.getDaysNoPay());
+         summaryDTO.setTotalDays(totals.getDaysPresent() + totals.getDaysLeave() + totals.getDaysHalfDay() + totals.getDaysNoPay());
+         summaryDTO.setOverTimeHours(totals.getOverTimeHours());
+         return summaryDTO;
+     }
 }
@@ -0,0 +1,65 @@
+package com.example.demo.mapper;
+
+import com.example.demo.dto.PayrollJobDTO;
+import com.example.demo.dto.PayrollJobErrorDTO;
+import com.example.demo.dto.PayrollRunRequestDTO;
+import com.example.demo.model.PayrollJob;
+import com.example.demo.model.PayrollJobError;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+public class PayrollJobMapper {
+    public PayrollJob toEntity(PayrollRunRequestDTO dto) {
+        PayrollJob job = new PayrollJob();
+        job.setStatus(PayrollJob.Status.QUEUED);
+        job.setStartDate(dto.getStartDate());
+        job.setEndDate(dto.getEndDate());
+        job.setDepartmentId(dto.getDepartment_id());
+        job.setBonus(dto.getBonus());
+        job.setCreatedAt(LocalDateTime.now());
+        return job;
+    }
+
+    public PayrollRunRequestDTO toRunRequest(PayrollJob job) {
+        PayrollRunRequestDTO dto = new PayrollRunRequestDTO();
+        dto.setStartDate(job.getStartDate());
+        dto.setEndDate(job.getEndDate());
+        dto.setDepartment_id(job.getDepartmentId());
+        dto.setBonus(job.getBonus());
+        return dto;
+    }
+
+    public PayrollJobDTO toDTO(PayrollJob job, List<PayrollJobError> errors) {
+        PayrollJobDTO dto = new PayrollJobDTO();
+        dto.setId(job.getId());
+        dto.setStatus(job.getStatus());
+        dto.setStartDate(job.getStartDate());
+        dto.setEndDate(job.getEndDate());
+        dto.setDepartment_id(job.getDepartmentId());
+        dto.setBonus(job.getBonus());
+        dto.setEmployeesInScope(job.getEmployeesInScope());
+        dto.setProcessed(job.getProcessed());
+        dto.setSalariesCreated(job.getSalariesCreated());
+        dto.setSkippedExisting(job.getSkippedExisting());
+        dto.setFailed(job.getFailed());
+        dto.setTotalPayout(job.getTotalPayout());
+        dto.setResumed(job.getResumed());
+        dto.setError(job.getError());
+        dto.setCreatedAt(job.getCreatedAt());
+        dto.setStartedAt(job.getStartedAt());
+        dto.setFinishedAt(job.getFinishedAt());
+        dto.setErrors(errors.stream().map(this::toErrorDTO).toList());
+        return dto;
+    }
+
+    private PayrollJobErrorDTO toErrorDTO(PayrollJobError error) {
+        PayrollJobErrorDTO dto = new PayrollJobErrorDTO();
+        dto.setEmployee_id(error.getEmployeeId());
+        dto.setMessage(error.getMessage());
+        dto.setOccurredAt(error.getOccurredAt());
+        return dto;
+    }
+}
@@ -7,6 +7,8 @@ import com.example.demo.model.Employee;
 import com.example.demo.model.Salary;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+
 @Component
 public class SalaryMapper {
     public Salary toEntity(SalaryCreateDTO dto, Employee employee, Department department) {
@@ -19,6 +21,16 @@ public class SalaryMapper {
         return salary;
     }
 
+    public Salary toEntity(Employee employee, Department department, LocalDate startDate, LocalDate endDate, long bonus) {
+        Salary salary = new Salary();
+        salary.setEmployee(employee);
+        salary.setStartDate(startDate);
+        salary.setEndDate(endDate);
+        salary.setDepartment(department);
+        salary.setBonus(bonus);
+        return salary;
+    }
+
     public SalaryResponseDTO toResponseDTO(Salary savedSalary, Employee employee, Department department) {
         SalaryResponseDTO responseDTO = new SalaryResponseDTO();
         responseDTO.setId(savedSalary.getId());
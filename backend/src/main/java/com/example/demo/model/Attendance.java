@@ -5,14 +5,25 @@ import jakarta.persistence.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "attendance")
+@Table(
+        name = "attendance",
+        uniqueConstraints = {
+                @UniqueConstraint(name = Attendance.UNIQUE_EMPLOYEE_DATE, columnNames = {"employee_id", "date"})
+        },
+        indexes = {
+                @Index(name = "idx_attendance_date_status", columnList = "date, status")
+        }
+)
 public class Attendance {
 
+    // One attendance row per employee per day, enforced by the database
+    public static final String UNIQUE_EMPLOYEE_DATE = "uk_attendance_employee_date";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id", nullable = false)
     private Employee employee;
 
@@ -0,0 +1,72 @@
+package com.example.demo.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+
+/**
+ * Attendance of closed months, moved out of the attendance table by the archival job. Rows keep the
+ * id they had in attendance and are read-only; the table only carries the indexes range reads need.
+ */
+@Entity
+@Immutable
+@Table(
+        name = "attendance_archive",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_attendance_archive_employee_date", columnNames = {"employee_id", "date"})
+        },
+        indexes = {
+                @Index(name = "idx_attendance_archive_date", columnList = "date")
+        }
+)
+public class AttendanceArchive {
+
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id", nullable = false)
+    private Employee employee;
+
+    @Column(name = "date", nullable = false)
+    private LocalDate date;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Attendance.AttendanceStatus status;
+
+    @Column(name = "OverTimeHours", nullable = false)
+    private double OverTimeHours;
+
+    public Long getId() {
+        return id;
+    }
+
+    public Employee getEmployee() {
+        return employee;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public Attendance.AttendanceStatus getStatus() {
+        return status;
+    }
+
+    public double getOverTimeHours() {
+        return OverTimeHours;
+    }
+
+    // A detached copy, so archived rows go through the same mapping as current ones
+    public Attendance toAttendance() {
+        Attendance attendance = new Attendance();
+        attendance.setId(id);
+        attendance.setEmployee(employee);
+        attendance.setDate(date);
+        attendance.setStatus(status);
+        attendance.setOverTimeHours(OverTimeHours);
+        return attendance;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.YearMonth;
+
+/**
+ * Per-employee, per-month totals of the daily attendance rows. Maintained incrementally by
+ * AttendanceService in the same transaction as the attendance write (through
+ * AttendanceMonthlyJdbcRepository, never through this entity) and regenerated from scratch by
+ * MonthlyAttendanceService.rebuild().
+ */
+@Entity
+@Immutable
+@Table(
+        name = "attendance_monthly",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_attendance_monthly_employee_month", columnNames = {"employee_id", "attendance_month"})
+        },
+        indexes = {
+                @Index(name = "idx_attendance_monthly_month", columnList = "attendance_month")
+        }
+)
+public class AttendanceMonthly {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id", nullable = false)
+    private Employee employee;
+
+    // yyyymm, e.g. 202501, so month ranges are plain integer comparisons
+    @Column(name = "attendance_month", nullable = false)
+    private int attendanceMonth;
+
+    @Column(name = "days_present", nullable = false)
+    private int daysPresent;
+
+    @Column(name = "days_leave", nullable = false)
+    private int daysLeave;
+
+    @Column(name = "days_half_day", nullable = false)
+    private int daysHalfDay;
+
+    @Column(name = "days_no_pay", nullable = false)
+    private int daysNoPay;
+
+    @Column(name = "over_time_hours", nullable = false)
+    private double overTimeHours;
+
+    public static int monthKey(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Employee getEmployee() {
+        return employee;
+    }
+
+    public int getAttendanceMonth() {
+        return attendanceMonth;
+    }
+
+    public int getDaysPresent() {
+        return daysPresent;
+    }
+
+    public int getDaysLeave() {
+        return daysLeave;
+    }
+
+    public int getDaysHalfDay() {
+        return daysHalfDay;
+    }
+
+    public int getDaysNoPay() {
+        return daysNoPay;
+    }
+
+    public double getOverTimeHours() {
+        return overTimeHours;
+    }
+}
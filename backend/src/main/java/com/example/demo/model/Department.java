@@ -1,5 +1,6 @@
 package com.example.demo.model;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -7,7 +8,12 @@ import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Department.CACHE_REGION)
 @Table(
         name = "department",
         uniqueConstraints = {
@@ -16,6 +22,8 @@ import jakarta.persistence.UniqueConstraint;
 )
 public class Department {
 
+    public static final String CACHE_REGION = "department";
+
     @Id
     private String id;
 
@@ -1,16 +1,21 @@
 package com.example.demo.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.Period;
 import java.util.Collection;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Employee.CACHE_REGION)
 @Table (name = "employee",
         uniqueConstraints = {
             @UniqueConstraint(name = "unique_employee_nic", columnNames = "nic"),
@@ -19,6 +24,8 @@ import java.util.List;
 )
 public class Employee implements UserDetails {
 
+    public static final String CACHE_REGION = "employee";
+
     @Id
     @Column(name = "id", nullable = false)
     private String id;
@@ -50,13 +57,17 @@ public class Employee implements UserDetails {
     @Column(name = "birthday", nullable = false)
     private LocalDate birthday;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "department_id", nullable = false)
     private Department department;
 
     @Column(name = "age")
     private int age;
 
+    // Set by a background-mode deletion; the row itself is removed once its history is purged
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @PreUpdate
     @PrePersist
     private void calculateAge() {
@@ -160,6 +171,18 @@ public class Employee implements UserDetails {
         this.department = department;
     }
 
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+
     public String getAddress() {
         return address;
     }
@@ -201,6 +224,6 @@ public class Employee implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return UserDetails.super.isEnabled();
+        return deletedAt == null;
     }
 }
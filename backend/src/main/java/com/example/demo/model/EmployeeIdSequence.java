@@ -0,0 +1,68 @@
+package com.example.demo.model;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+// Next unallocated employee number of a department, handed out in blocks
+@Entity
+@Table(name = "employee_id_sequence")
+public class EmployeeIdSequence implements Persistable<String> {
+
+    @Id
+    @Column(name = "department_id", nullable = false)
+    private String departmentId;
+
+    @Column(name = "next_value", nullable = false)
+    private long nextValue;
+
+    // Lets save() persist a new counter row straight away instead of merging it, which would select it first
+    @Transient
+    private boolean isNew;
+
+    public EmployeeIdSequence() {}
+
+    public EmployeeIdSequence(String departmentId, long nextValue) {
+        this.departmentId = departmentId;
+        this.nextValue = nextValue;
+        this.isNew = true;
+    }
+
+    @Override
+    public String getId() {
+        return departmentId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+
+    public String getDepartmentId() {
+        return departmentId;
+    }
+
+    public void setDepartmentId(String departmentId) {
+        this.departmentId = departmentId;
+    }
+
+    public long getNextValue() {
+        return nextValue;
+    }
+
+    public void setNextValue(long nextValue) {
+        this.nextValue = nextValue;
+    }
+}
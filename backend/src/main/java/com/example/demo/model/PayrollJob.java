@@ -0,0 +1,219 @@
+package com.example.demo.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A payroll run executed in the background by PayrollJobService. Progress counters are updated in
+ * the same transaction as each chunk of salaries, so after a restart they match the salaries that
+ * were actually stored.
+ */
+@Entity
+@Table(
+        name = "payroll_job",
+        indexes = {
+                @Index(name = "idx_payroll_job_status", columnList = "status")
+        }
+)
+public class PayrollJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED;
+    }
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    // Whole company when null
+    @Column(name = "department_id")
+    private String departmentId;
+
+    @Column(name = "bonus", nullable = false)
+    private long bonus;
+
+    @Column(name = "employees_in_scope", nullable = false)
+    private int employeesInScope;
+
+    @Column(name = "processed", nullable = false)
+    private int processed;
+
+    @Column(name = "salaries_created", nullable = false)
+    private int salariesCreated;
+
+    @Column(name = "skipped_existing", nullable = false)
+    private int skippedExisting;
+
+    @Column(name = "failed", nullable = false)
+    private int failed;
+
+    @Column(name = "total_payout", nullable = false)
+    private long totalPayout;
+
+    // Number of times the job was picked up again after a restart
+    @Column(name = "resumed", nullable = false)
+    private int resumed;
+
+    @Column(name = "error", length = 1000)
+    private String error;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public String getDepartmentId() {
+        return departmentId;
+    }
+
+    public void setDepartmentId(String departmentId) {
+        this.departmentId = departmentId;
+    }
+
+    public long getBonus() {
+        return bonus;
+    }
+
+    public void setBonus(long bonus) {
+        this.bonus = bonus;
+    }
+
+    public int getEmployeesInScope() {
+        return employeesInScope;
+    }
+
+    public void setEmployeesInScope(int employeesInScope) {
+        this.employeesInScope = employeesInScope;
+    }
+
+    public int getProcessed() {
+        return processed;
+    }
+
+    public void setProcessed(int processed) {
+        this.processed = processed;
+    }
+
+    public int getSalariesCreated() {
+        return salariesCreated;
+    }
+
+    public void setSalariesCreated(int salariesCreated) {
+        this.salariesCreated = salariesCreated;
+    }
+
+    public int getSkippedExisting() {
+        return skippedExisting;
+    }
+
+    public void setSkippedExisting(int skippedExisting) {
+        this.skippedExisting = skippedExisting;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public long getTotalPayout() {
+        return totalPayout;
+    }
+
+    public void setTotalPayout(long totalPayout) {
+        this.totalPayout = totalPayout;
+    }
+
+    public int getResumed() {
+        return resumed;
+    }
+
+    public void setResumed(int resumed) {
+        this.resumed = resumed;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demo.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// An employee whose salary could not be computed in a payroll job; the rest of the job carries on
+@Entity
+@Table(name = "payroll_job_error")
+public class PayrollJobError {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "payroll_job_id", nullable = false)
+    private PayrollJob job;
+
+    @Column(name = "employee_id", nullable = false)
+    private String employeeId;
+
+    @Column(name = "message", nullable = false, length = 1000)
+    private String message;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public PayrollJob getJob() {
+        return job;
+    }
+
+    public void setJob(PayrollJob job) {
+        this.job = job;
+    }
+
+    public String getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(String employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
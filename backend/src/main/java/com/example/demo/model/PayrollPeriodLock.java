@@ -0,0 +1,58 @@
+package com.example.demo.model;
+
+import java.time.LocalDate;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+// One row per payroll period, locked by job submissions so their overlap check and insert do not interleave
+@Entity
+@Table(name = "payroll_period_lock")
+public class PayrollPeriodLock implements Persistable<String> {
+
+    @Id
+    @Column(name = "period", nullable = false, length = 21)
+    private String period;
+
+    // Lets save() persist a new lock row straight away instead of merging it, which would select it first
+    @Transient
+    private boolean isNew;
+
+    public PayrollPeriodLock() {}
+
+    public PayrollPeriodLock(String period) {
+        this.period = period;
+        this.isNew = true;
+    }
+
+    public static String key(LocalDate startDate, LocalDate endDate) {
+        return startDate + "/" + endDate;
+    }
+
+    @Override
+    public String getId() {
+        return period;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+
+    public String getPeriod() {
+        return period;
+    }
+}
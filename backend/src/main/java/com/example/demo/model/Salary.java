@@ -5,13 +5,22 @@ import jakarta.persistence.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "salary")
+@Table(
+        name = "salary",
+        uniqueConstraints = {
+                @UniqueConstraint(name = Salary.UNIQUE_EMPLOYEE_PERIOD, columnNames = {"employee_id", "start_date", "end_date"})
+        }
+)
 public class Salary {
+
+    // One salary per employee per pay period, enforced by the database
+    public static final String UNIQUE_EMPLOYEE_PERIOD = "uk_salary_employee_period";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id", nullable = false)
     private Employee employee;
 
@@ -21,7 +30,7 @@ public class Salary {
     @Column(name = "end_date", nullable = false)
     private LocalDate endDate;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "department_id" , nullable = false)
     private Department department;
 
@@ -0,0 +1,46 @@
+package com.example.demo.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+/**
+ * Moves attendance rows of closed months into attendance_archive. The copy skips rows already
+ * archived, so a month whose move was interrupted can simply be moved again, and the hot rows are
+ * only deleted once their copy exists.
+ */
+@Repository
+public class AttendanceArchiveJdbcRepository {
+
+    private static final String COPY_SQL =
+            "INSERT INTO attendance_archive (id, employee_id, date, status, over_time_hours) " +
+            "SELECT a.id, a.employee_id, a.date, a.status, a.over_time_hours FROM attendance a " +
+            "WHERE a.date BETWEEN ? AND ? " +
+            "AND NOT EXISTS (SELECT 1 FROM attendance_archive r WHERE r.id = a.id)";
+
+    private static final String DELETE_ARCHIVED_SQL =
+            "DELETE FROM attendance WHERE date BETWEEN ? AND ? " +
+            "AND EXISTS (SELECT 1 FROM attendance_archive r WHERE r.id = attendance.id) LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public AttendanceArchiveJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public LocalDate findOldestHotDate() {
+        return jdbcTemplate.queryForObject("SELECT MIN(date) FROM attendance", LocalDate.class);
+    }
+
+    public int copyToArchive(LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.update(COPY_SQL, startDate, endDate);
+    }
+
+    // Deletes up to limit hot rows of the range that are already archived, committed by the caller
+    public int deleteArchivedChunk(LocalDate startDate, LocalDate endDate, int limit) {
+        return jdbcTemplate.update(DELETE_ARCHIVED_SQL, startDate, endDate, limit);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.AttendanceMatrixCount;
+import com.example.demo.dto.AttendanceStatusCount;
+import com.example.demo.dto.EmployeeAttendanceAggregate;
+import com.example.demo.model.Attendance;
+import com.example.demo.model.AttendanceArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads of archived attendance, mirroring the range queries of {@link AttendanceRepository}.
+ * Callers go through {@link TieredAttendanceRepository}, which decides which store a date range needs.
+ */
+@Repository
+public interface AttendanceArchiveRepository extends JpaRepository<AttendanceArchive, Long> {
+
+    List<AttendanceArchive> findByDate(LocalDate date);
+    Optional<AttendanceArchive> findByEmployee_IdAndDate(String employeeId, LocalDate date);
+    List<AttendanceArchive> findByDateAndStatus(LocalDate date, Attendance.AttendanceStatus status);
+    List<AttendanceArchive> findByEmployee_IdAndDateBetween(String employeeId, LocalDate startDate, LocalDate endDate);
+
+    @Query("SELECT a FROM AttendanceArchive a WHERE a.date = :date AND a.employee.department.id = :departmentId")
+    List<AttendanceArchive> findByDateAndDepartmentId(@Param("date") LocalDate date, @Param("departmentId") String departmentId);
+
+    @Query("SELECT MAX(a.date) FROM AttendanceArchive a")
+    LocalDate findLatestDate();
+
+    @Modifying
+    @Query("DELETE FROM AttendanceArchive a WHERE a.employee.id = :employeeId")
+    int deleteByEmployeeId(@Param("employeeId") String employeeId);
+
+    @Query("SELECT a.status AS status, COUNT(a) AS days, SUM(a.OverTimeHours) AS overTimeHours " +
+            "FROM AttendanceArchive a WHERE a.employee.id = :employeeId AND a.date BETWEEN :startDate AND :endDate " +
+            "GROUP BY a.status")
+    List<AttendanceStatusCount> countByStatusForEmployee(@Param("employeeId") String employeeId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT a.employee.id AS employeeId, a.status AS status, COUNT(a) AS days, SUM(a.OverTimeHours) AS overTimeHours " +
+            "FROM AttendanceArchive a WHERE a.date BETWEEN :startDate AND :endDate " +
+            "GROUP BY a.employee.id, a.status")
+    List<EmployeeAttendanceAggregate> aggregateByEmployeeAndStatus(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT a.employee.id AS employeeId, a.status AS status, COUNT(a) AS days, SUM(a.OverTimeHours) AS overTimeHours " +
+            "FROM AttendanceArchive a WHERE a.date BETWEEN :startDate AND :endDate AND a.employee.department.id = :departmentId " +
+            "GROUP BY a.employee.id, a.status")
+    List<EmployeeAttendanceAggregate> aggregateByEmployeeAndStatusForDepartment(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate, @Param("departmentId") String departmentId);
+
+    @Query("SELECT e.department.id AS departmentId, a.date AS date, a.status AS status, COUNT(a) AS count " +
+            "FROM AttendanceArchive a JOIN a.employee e " +
+            "WHERE a.date BETWEEN :startDate AND :endDate AND (:departmentId IS NULL OR e.department.id = :departmentId) " +
+            "GROUP BY e.department.id, a.date, a.status " +
+            "ORDER BY e.department.id, a.date")
+    List<AttendanceMatrixCount> countByDepartmentDateAndStatus(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate, @Param("departmentId") String departmentId);
+}
@@ -0,0 +1,40 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.AttendanceCreateDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.util.List;
+
+/**
+ * Plain JDBC writes for attendance. Attendance ids are IDENTITY generated, which stops Hibernate from
+ * batching inserts, so bulk ingestion goes through JdbcTemplate batches instead
+ * (with rewriteBatchedStatements the MySQL driver sends each batch as one multi-row INSERT).
+ */
+@Repository
+public class AttendanceJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO attendance (employee_id, date, status, over_time_hours) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    @Autowired
+    public AttendanceJdbcRepository(JdbcTemplate jdbcTemplate, @Value("${attendance.batch.jdbc-batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    public void batchInsert(List<AttendanceCreateDTO> rows) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, batchSize, (ps, row) -> {
+            ps.setString(1, row.getEmployee_id());
+            ps.setDate(2, Date.valueOf(row.getDate()));
+            ps.setString(3, row.getStatus().name());
+            ps.setDouble(4, row.getOverTimeHours());
+        });
+    }
+}
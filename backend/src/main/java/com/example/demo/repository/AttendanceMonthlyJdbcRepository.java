@@ -0,0 +1,115 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.AttendanceMonthlyDelta;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Writes to attendance_monthly. Deltas are applied with INSERT ... ON DUPLICATE KEY UPDATE, so the
+ * first write of an employee-month creates its row and later ones add to it under the row lock,
+ * without reading the row first.
+ * <p>
+ * On MySQL 8.0.19 and later the update refers to the inserted row through a row alias, as
+ * VALUES(col) is deprecated since 8.0.20. Other databases (older MySQL, MariaDB, H2 in MySQL mode
+ * for the tests) get the VALUES(col) form.
+ */
+@Repository
+public class AttendanceMonthlyJdbcRepository {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO attendance_monthly (employee_id, attendance_month, days_present, days_leave, days_half_day, days_no_pay, over_time_hours) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) AS new ON DUPLICATE KEY UPDATE " +
+            "days_present = days_present + new.days_present, " +
+            "days_leave = days_leave + new.days_leave, " +
+            "days_half_day = days_half_day + new.days_half_day, " +
+            "days_no_pay = days_no_pay + new.days_no_pay, " +
+            "over_time_hours = over_time_hours + new.over_time_hours";
+
+    private static final String VALUES_UPSERT_SQL =
+            "INSERT INTO attendance_monthly (employee_id, attendance_month, days_present, days_leave, days_half_day, days_no_pay, over_time_hours) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE " +
+            "days_present = days_present + VALUES(days_present), " +
+            "days_leave = days_leave + VALUES(days_leave), " +
+            "days_half_day = days_half_day + VALUES(days_half_day), " +
+            "days_no_pay = days_no_pay + VALUES(days_no_pay), " +
+            "over_time_hours = over_time_hours + VALUES(over_time_hours)";
+
+    private static final String REBUILD_SQL =
+            "INSERT INTO attendance_monthly (employee_id, attendance_month, days_present, days_leave, days_half_day, days_no_pay, over_time_hours) " +
+            "SELECT employee_id, YEAR(date) * 100 + MONTH(date), " +
+            "SUM(CASE WHEN status = 'PRESENT' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN status = 'LEAVE' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN status = 'HALF_DAY' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN status = 'NO_PAY' THEN 1 ELSE 0 END), " +
+            "SUM(over_time_hours) " +
+            "FROM (SELECT employee_id, date, status, over_time_hours FROM attendance h " +
+            // Archived rows keep their id and stay in attendance until the archiver's chunked delete reaches them
+            "WHERE NOT EXISTS (SELECT 1 FROM attendance_archive r WHERE r.id = h.id) " +
+            "UNION ALL SELECT employee_id, date, status, over_time_hours FROM attendance_archive) a " +
+            "GROUP BY employee_id, YEAR(date) * 100 + MONTH(date)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String upsertSql;
+
+    @Autowired
+    public AttendanceMonthlyJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.upsertSql = Boolean.TRUE.equals(jdbcTemplate.execute(
+                (ConnectionCallback<Boolean>) connection -> supportsRowAlias(connection.getMetaData())))
+                ? UPSERT_SQL
+                : VALUES_UPSERT_SQL;
+    }
+
+    private static boolean supportsRowAlias(DatabaseMetaData metaData) throws SQLException {
+        if (!"MySQL".equals(metaData.getDatabaseProductName())) {
+            return false;
+        }
+        // e.g. "8.0.36" or "8.4.0-log"
+        String[] parts = metaData.getDatabaseProductVersion().split("[^0-9]+");
+        int[] version = new int[3];
+        for (int i = 0; i < version.length && i < parts.length; i++) {
+            version[i] = parts[i].isEmpty() ? 0 : Integer.parseInt(parts[i]);
+        }
+        if (version[0] != 8) {
+            return version[0] > 8;
+        }
+        return version[1] > 0 || version[2] >= 19;
+    }
+
+    public void applyDeltas(List<AttendanceMonthlyDelta> deltas) {
+        if (deltas.size() == 1) {
+            AttendanceMonthlyDelta delta = deltas.get(0);
+            jdbcTemplate.update(upsertSql, delta.getEmployeeId(), delta.getAttendanceMonth(), delta.getDaysPresent(),
+                    delta.getDaysLeave(), delta.getDaysHalfDay(), delta.getDaysNoPay(), delta.getOverTimeHours());
+            return;
+        }
+        jdbcTemplate.batchUpdate(upsertSql, deltas, deltas.size(), (ps, delta) -> {
+            ps.setString(1, delta.getEmployeeId());
+            ps.setInt(2, delta.getAttendanceMonth());
+            ps.setInt(3, delta.getDaysPresent());
+            ps.setInt(4, delta.getDaysLeave());
+            ps.setInt(5, delta.getDaysHalfDay());
+            ps.setInt(6, delta.getDaysNoPay());
+            ps.setDouble(7, delta.getOverTimeHours());
+        });
+    }
+
+    // True while current or archived attendance has rows but the aggregate has none, i.e. it was never built
+    public boolean isMissing() {
+        return !jdbcTemplate.queryForList(
+                "SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM attendance_monthly) " +
+                "AND (EXISTS (SELECT 1 FROM attendance) OR EXISTS (SELECT 1 FROM attendance_archive))").isEmpty();
+    }
+
+    // Replaces every row with totals recomputed from current and archived attendance; callers provide the transaction
+    public int rebuild() {
+        jdbcTemplate.update("DELETE FROM attendance_monthly");
+        return jdbcTemplate.update(REBUILD_SQL);
+    }
+}
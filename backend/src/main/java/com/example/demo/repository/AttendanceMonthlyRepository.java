@@ -0,0 +1,34 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.EmployeeMonthlyTotals;
+import com.example.demo.model.AttendanceMonthly;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AttendanceMonthlyRepository extends JpaRepository<AttendanceMonthly, Long> {
+
+    // Months are yyyymm keys, see AttendanceMonthly.monthKey
+    @Query("SELECT m.employee.id AS employeeId, SUM(m.daysPresent) AS daysPresent, SUM(m.daysLeave) AS daysLeave, " +
+            "SUM(m.daysHalfDay) AS daysHalfDay, SUM(m.daysNoPay) AS daysNoPay, SUM(m.overTimeHours) AS overTimeHours " +
+            "FROM AttendanceMonthly m WHERE m.employee.id = :employeeId AND m.attendanceMonth BETWEEN :fromMonth AND :toMonth " +
+            "GROUP BY m.employee.id")
+    Optional<EmployeeMonthlyTotals> sumForEmployee(@Param("employeeId") String employeeId, @Param("fromMonth") int fromMonth, @Param("toMonth") int toMonth);
+
+    @Query("SELECT m.employee.id AS employeeId, SUM(m.daysPresent) AS daysPresent, SUM(m.daysLeave) AS daysLeave, " +
+            "SUM(m.daysHalfDay) AS daysHalfDay, SUM(m.daysNoPay) AS daysNoPay, SUM(m.overTimeHours) AS overTimeHours " +
+            "FROM AttendanceMonthly m WHERE m.attendanceMonth BETWEEN :fromMonth AND :toMonth " +
+            "AND (:departmentId IS NULL OR m.employee.department.id = :departmentId) " +
+            "GROUP BY m.employee.id")
+    List<EmployeeMonthlyTotals> sumByEmployee(@Param("fromMonth") int fromMonth, @Param("toMonth") int toMonth, @Param("departmentId") String departmentId);
+
+    @Modifying
+    @Query("DELETE FROM AttendanceMonthly m WHERE m.employee.id = :employeeId")
+    int deleteByEmployeeId(@Param("employeeId") String employeeId);
+}
@@ -1,12 +1,18 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.AttendanceEmployeeDate;
+import com.example.demo.dto.AttendanceMatrixCount;
+import com.example.demo.dto.AttendanceStatusCount;
+import com.example.demo.dto.EmployeeAttendanceAggregate;
 import com.example.demo.model.Attendance;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,15 +21,50 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
 
     List<Attendance> findByDate(LocalDate date);
     List<Attendance> findByEmployee_Id(String employeeId);
+
+    // One statement for the whole history, without loading the rows first
+    @Modifying
+    @Query("DELETE FROM Attendance a WHERE a.employee.id = :employeeId")
+    int deleteByEmployeeId(@Param("employeeId") String employeeId);
     Optional<Attendance> findByEmployee_IdAndDate(String employeeId, LocalDate date);
     List<Attendance> findByDateAndStatus(LocalDate date, Attendance.AttendanceStatus status);
     List<Attendance> findByEmployee_IdAndDateBetween(String employeeId, LocalDate startDate, LocalDate endDate);
     List<Attendance> findByEmployee_IdAndDateBetweenAndStatus(String employeeId, LocalDate startDate, LocalDate endDate, Attendance.AttendanceStatus status);
 
+    // Existing (employee, date) keys, used to detect duplicates for a whole batch at once
+    @Query("SELECT a.employee.id AS employeeId, a.date AS date FROM Attendance a " +
+            "WHERE a.employee.id IN :employeeIds AND a.date BETWEEN :startDate AND :endDate")
+    List<AttendanceEmployeeDate> findKeysForEmployeesBetween(@Param("employeeIds") Collection<String> employeeIds, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
     boolean existsByEmployee_Id(String empId);
     boolean existsByDate(LocalDate date);
 
     // Custom query to find attendance by date and department ID through employee relationship
     @Query("SELECT a FROM Attendance a WHERE a.date = :date AND a.employee.department.id = :departmentId")
     List<Attendance> findByDateAndDepartmentId(@Param("date") LocalDate date, @Param("departmentId") String departmentId);
+
+    // Day counts and overtime per status for one employee, without loading the attendance rows
+    @Query("SELECT a.status AS status, COUNT(a) AS days, SUM(a.OverTimeHours) AS overTimeHours " +
+            "FROM Attendance a WHERE a.employee.id = :employeeId AND a.date BETWEEN :startDate AND :endDate " +
+            "GROUP BY a.status")
+    List<AttendanceStatusCount> countByStatusForEmployee(@Param("employeeId") String employeeId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // Day counts and overtime per employee and status for a payroll period, in a single grouped query
+    @Query("SELECT a.employee.id AS employeeId, a.status AS status, COUNT(a) AS days, SUM(a.OverTimeHours) AS overTimeHours " +
+            "FROM Attendance a WHERE a.date BETWEEN :startDate AND :endDate " +
+            "GROUP BY a.employee.id, a.status")
+    List<EmployeeAttendanceAggregate> aggregateByEmployeeAndStatus(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT a.employee.id AS employeeId, a.status AS status, COUNT(a) AS days, SUM(a.OverTimeHours) AS overTimeHours " +
+            "FROM Attendance a WHERE a.date BETWEEN :startDate AND :endDate AND a.employee.department.id = :departmentId " +
+            "GROUP BY a.employee.id, a.status")
+    List<EmployeeAttendanceAggregate> aggregateByEmployeeAndStatusForDepartment(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate, @Param("departmentId") String departmentId);
+
+    // Row counts per department, day and status over a date range, in one grouped query
+    @Query("SELECT e.department.id AS departmentId, a.date AS date, a.status AS status, COUNT(a) AS count " +
+            "FROM Attendance a JOIN a.employee e " +
+            "WHERE a.date BETWEEN :startDate AND :endDate AND (:departmentId IS NULL OR e.department.id = :departmentId) " +
+            "GROUP BY e.department.id, a.date, a.status " +
+            "ORDER BY e.department.id, a.date")
+    List<AttendanceMatrixCount> countByDepartmentDateAndStatus(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate, @Param("departmentId") String departmentId);
 }
@@ -0,0 +1,41 @@
+package com.example.demo.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Chunked deletes of an employee's history for the background purge. Called outside a
+ * transaction, so every statement commits on its own and holds its locks only for one chunk.
+ */
+@Repository
+public class EmployeeHistoryJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public EmployeeHistoryJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public int deleteAttendanceChunk(String employeeId, int limit) {
+        return jdbcTemplate.update("DELETE FROM attendance WHERE employee_id = ? LIMIT ?", employeeId, limit);
+    }
+
+    public int deleteArchivedAttendanceChunk(String employeeId, int limit) {
+        return jdbcTemplate.update("DELETE FROM attendance_archive WHERE employee_id = ? LIMIT ?", employeeId, limit);
+    }
+
+    public int deleteSalaryChunk(String employeeId, int limit) {
+        return jdbcTemplate.update("DELETE FROM salary WHERE employee_id = ? LIMIT ?", employeeId, limit);
+    }
+
+    public int deleteMonthlyAttendance(String employeeId) {
+        return jdbcTemplate.update("DELETE FROM attendance_monthly WHERE employee_id = ?", employeeId);
+    }
+
+    // Only removes employees that were marked deleted, never an active one
+    public int deleteMarkedEmployee(String employeeId) {
+        return jdbcTemplate.update("DELETE FROM employee WHERE id = ? AND deleted_at IS NOT NULL", employeeId);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.demo.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.demo.model.EmployeeIdSequence;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface EmployeeIdSequenceRepository extends JpaRepository<EmployeeIdSequence, String> {
+
+    // SELECT ... FOR UPDATE, so concurrent allocations for a department queue on the row
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM EmployeeIdSequence s WHERE s.departmentId = :departmentId")
+    Optional<EmployeeIdSequence> findForUpdate(@Param("departmentId") String departmentId);
+}
@@ -1,9 +1,11 @@
 package com.example.demo.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -12,11 +14,29 @@ import com.example.demo.model.Department;
 import com.example.demo.model.Employee;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, String> {
+public interface EmployeeRepository extends JpaRepository<Employee, String>, JpaSpecificationExecutor<Employee> {
     @Query("SELECT MAX(CAST(SUBSTRING(e.id, LENGTH(e.department.id) + 1) AS int)) FROM Employee e WHERE e.department = :department")
     Integer findMaxIdNumberByDepartment(@Param("department") Department department);
 
-    List<Employee> findByDepartment_Id(String id);
+    // Employees being purged in the background (deletedAt set) are left out of listings and payroll
+    List<Employee> findByDeletedAtIsNull();
+
+    List<Employee> findByDepartment_IdAndDeletedAtIsNull(String id);
+
+    @Query("SELECT e FROM Employee e JOIN FETCH e.department WHERE e.deletedAt IS NULL")
+    List<Employee> findAllWithDepartment();
+
+    @Query("SELECT e FROM Employee e JOIN FETCH e.department d WHERE d.id = :departmentId AND e.deletedAt IS NULL")
+    List<Employee> findByDepartmentIdWithDepartment(@Param("departmentId") String departmentId);
+
+    @Query("SELECT e.id FROM Employee e WHERE e.deletedAt IS NOT NULL")
+    List<String> findDeletedIds();
+
+    // Employees marked deleted are waiting for their history purge and take no new rows
+    @Query("SELECT e.id FROM Employee e WHERE e.id IN :ids AND e.deletedAt IS NULL")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
+
+    boolean existsByIdAndDeletedAtIsNull(String id);
 
     boolean existsByEmail(String email);
     boolean existsByNic(String nic);
@@ -0,0 +1,66 @@
+package com.example.demo.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.demo.model.Employee;
+import com.example.demo.model.Role;
+
+public final class EmployeeSpecifications {
+
+    private EmployeeSpecifications() {
+    }
+
+    public static Specification<Employee> notDeleted() {
+        return (root, query, cb) -> cb.isNull(root.get("deletedAt"));
+    }
+
+    public static Specification<Employee> inDepartment(String departmentId) {
+        if (departmentId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("department").get("id"), departmentId);
+    }
+
+    public static Specification<Employee> hasRole(Role role) {
+        if (role == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("role"), role);
+    }
+
+    /**
+     * Keyset condition: rows strictly after (sortValue, id) in the given order, with id as the tie-breaker.
+     */
+    public static Specification<Employee> after(String sortAttribute, String sortValue, String id, boolean ascending) {
+        return (root, query, cb) -> {
+            if (sortAttribute.equals("id")) {
+                return ascending ? cb.greaterThan(root.get("id"), id) : cb.lessThan(root.get("id"), id);
+            }
+            if (ascending) {
+                return cb.or(
+                        cb.greaterThan(root.get(sortAttribute), sortValue),
+                        cb.and(cb.equal(root.get(sortAttribute), sortValue), cb.greaterThan(root.get("id"), id)));
+            }
+            return cb.or(
+                    cb.lessThan(root.get(sortAttribute), sortValue),
+                    cb.and(cb.equal(root.get(sortAttribute), sortValue), cb.lessThan(root.get("id"), id)));
+        };
+    }
+
+    /**
+     * Orders by the sort attribute and then id. Set through the criteria query because Spring Data's
+     * Sort reads the underscore in first_name and last_name as a path into a nested property.
+     */
+    public static Specification<Employee> orderedBy(String sortAttribute, boolean ascending) {
+        return (root, query, cb) -> {
+            if (sortAttribute.equals("id")) {
+                query.orderBy(ascending ? cb.asc(root.get("id")) : cb.desc(root.get("id")));
+            } else if (ascending) {
+                query.orderBy(cb.asc(root.get(sortAttribute)), cb.asc(root.get("id")));
+            } else {
+                query.orderBy(cb.desc(root.get(sortAttribute)), cb.desc(root.get("id")));
+            }
+            return null;
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.AttendanceExportRow;
+import com.example.demo.dto.SalaryExportRow;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+/**
+ * Streamed export rows. Only these queries ask the driver to stream their result, so the setting
+ * is made per query here rather than for every connection. On MySQL the fetch size is
+ * Integer.MIN_VALUE, which makes Connector/J read the result row by row. Other databases, such as
+ * H2 in the tests, get a plain fetch size.
+ * <p>
+ * Streams must be consumed inside a read-only transaction and closed afterwards. On MySQL a
+ * connection holds one streamed result at a time.
+ */
+@Repository
+public class ExportRowRepository {
+
+    private static final String ATTENDANCE_JPQL =
+            "SELECT new com.example.demo.dto.AttendanceExportRow(a.id, e.id, e.department.id, a.date, a.status, a.OverTimeHours) " +
+            "FROM %s a JOIN a.employee e " +
+            "WHERE a.date BETWEEN :startDate AND :endDate AND (:departmentId IS NULL OR e.department.id = :departmentId) " +
+            "ORDER BY a.date, a.id";
+
+    // Salaries whose period lies within the range
+    private static final String SALARY_JPQL =
+            "SELECT new com.example.demo.dto.SalaryExportRow(s.id, s.employee.id, s.department.id, s.startDate, s.endDate, " +
+            "s.baseSalary, s.daysPresent, s.daysLeave, s.daysHalfDay, s.daysNoPay, s.overTimeHours, s.OverTimePay, " +
+            "s.bonus, s.deduction, s.totalSalary) " +
+            "FROM Salary s WHERE s.startDate >= :startDate AND s.endDate <= :endDate " +
+            "ORDER BY s.startDate, s.id";
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    @Autowired
+    public ExportRowRepository(EntityManager entityManager, JdbcTemplate jdbcTemplate,
+                               @Value("${export.fetch-size:1000}") int fetchSize) {
+        this.entityManager = entityManager;
+        boolean mysql = Boolean.TRUE.equals(jdbcTemplate.execute(
+                (ConnectionCallback<Boolean>) connection -> "MySQL".equals(connection.getMetaData().getDatabaseProductName())));
+        this.fetchSize = mysql ? Integer.MIN_VALUE : fetchSize;
+    }
+
+    public Stream<AttendanceExportRow> streamAttendance(LocalDate startDate, LocalDate endDate, String departmentId) {
+        return streamAttendance("Attendance", startDate, endDate, departmentId);
+    }
+
+    public Stream<AttendanceExportRow> streamArchivedAttendance(LocalDate startDate, LocalDate endDate, String departmentId) {
+        return streamAttendance("AttendanceArchive", startDate, endDate, departmentId);
+    }
+
+    public Stream<SalaryExportRow> streamSalaries(LocalDate startDate, LocalDate endDate) {
+        return entityManager.createQuery(SALARY_JPQL, SalaryExportRow.class)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private Stream<AttendanceExportRow> streamAttendance(String entity, LocalDate startDate, LocalDate endDate, String departmentId) {
+        return entityManager.createQuery(ATTENDANCE_JPQL.formatted(entity), AttendanceExportRow.class)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .setParameter("departmentId", departmentId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
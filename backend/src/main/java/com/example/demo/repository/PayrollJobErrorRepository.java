@@ -0,0 +1,21 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.PayrollJobError;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PayrollJobErrorRepository extends JpaRepository<PayrollJobError, Long> {
+
+    List<PayrollJobError> findByJob_IdOrderByIdAsc(Long jobId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM PayrollJobError e WHERE e.job.id = :jobId")
+    int deleteByJobId(@Param("jobId") Long jobId);
+}
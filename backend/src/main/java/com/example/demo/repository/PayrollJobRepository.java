@@ -0,0 +1,24 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.PayrollJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PayrollJobRepository extends JpaRepository<PayrollJob, Long> {
+
+    List<PayrollJob> findByStatusInOrderByIdAsc(Collection<PayrollJob.Status> statuses);
+
+    // An unfinished job for the same period whose scope overlaps (same department, or either is company-wide)
+    @Query("SELECT COUNT(j) > 0 FROM PayrollJob j WHERE j.status IN :statuses " +
+            "AND j.startDate = :startDate AND j.endDate = :endDate " +
+            "AND (j.departmentId IS NULL OR :departmentId IS NULL OR j.departmentId = :departmentId)")
+    boolean existsOverlapping(@Param("statuses") Collection<PayrollJob.Status> statuses, @Param("startDate") LocalDate startDate,
+                              @Param("endDate") LocalDate endDate, @Param("departmentId") String departmentId);
+}
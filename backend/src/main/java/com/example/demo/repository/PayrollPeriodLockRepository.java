@@ -0,0 +1,22 @@
+package com.example.demo.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.demo.model.PayrollPeriodLock;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface PayrollPeriodLockRepository extends JpaRepository<PayrollPeriodLock, String> {
+
+    // SELECT ... FOR UPDATE, so concurrent job submissions for a period queue on the row
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM PayrollPeriodLock l WHERE l.period = :period")
+    Optional<PayrollPeriodLock> findForUpdate(@Param("period") String period);
+}
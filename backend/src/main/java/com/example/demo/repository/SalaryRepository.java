@@ -1,9 +1,14 @@
 package com.example.demo.repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.demo.model.Employee;
@@ -14,11 +19,25 @@ public interface SalaryRepository extends JpaRepository<Salary, Long> {
 
     List<Salary> findByEmployee_Id(String id);
 
+    // One statement for the whole history, without loading the rows first
+    @Modifying
+    @Query("DELETE FROM Salary s WHERE s.employee.id = :employeeId")
+    int deleteByEmployeeId(@Param("employeeId") String employeeId);
+
+    // Read paths need the department for the base salary and overtime rate; fetch it in the same query
+    @EntityGraph(attributePaths = "department")
+    List<Salary> findWithDepartmentByEmployee_Id(String id);
+
+    @EntityGraph(attributePaths = "department")
+    Optional<Salary> findWithDepartmentById(Long id);
+
+    @Query("SELECT s.employee.id FROM Salary s WHERE s.startDate = :startDate AND s.endDate = :endDate")
+    List<String> findEmployeeIdsWithSalaryForPeriod(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
     // Custom query methods can be added here if needed
     // For example, to find salaries by employee ID or date range
 
     // Example:
     // List<Salary> findByEmployeeId(String employeeId);
     // List<Salary> findByDateBetween(LocalDate startDate, LocalDate endDate);
-
 }
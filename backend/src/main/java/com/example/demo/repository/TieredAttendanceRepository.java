@@ -0,0 +1,277 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.AttendanceExportRow;
+import com.example.demo.dto.AttendanceMatrixCount;
+import com.example.demo.dto.AttendanceStatusCount;
+import com.example.demo.dto.EmployeeAttendanceAggregate;
+import com.example.demo.model.Attendance;
+import com.example.demo.model.AttendanceArchive;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Attendance reads across the hot attendance table and attendance_archive. Days up to
+ * {@code archivedThrough} live only in the archive and later days only in the hot table, so a date
+ * range is sent to the store that holds it, and split in two only when it crosses the boundary.
+ * Queries for recent dates therefore never touch the archive.
+ * <p>
+ * The boundary is kept in memory and moved by the archival job, which assumes a single application
+ * instance runs it.
+ */
+@Repository
+public class TieredAttendanceRepository {
+
+    private final AttendanceRepository attendanceRepository;
+    private final AttendanceArchiveRepository attendanceArchiveRepository;
+    private final ExportRowRepository exportRowRepository;
+
+    // Last day held in the archive, null while nothing is archived
+    private volatile LocalDate archivedThrough;
+    // Last day of the month being moved; attendance up to it can no longer be written
+    private volatile LocalDate frozenThrough;
+    // Shared by attendance writes from their frozen check until their transaction completes, and
+    // taken exclusively to move frozenThrough, so the freeze waits for writes that passed the check
+    private final ReentrantReadWriteLock freezeLock = new ReentrantReadWriteLock();
+
+    @Autowired
+    public TieredAttendanceRepository(AttendanceRepository attendanceRepository, AttendanceArchiveRepository attendanceArchiveRepository,
+                                      ExportRowRepository exportRowRepository) {
+        this.attendanceRepository = attendanceRepository;
+        this.attendanceArchiveRepository = attendanceArchiveRepository;
+        this.exportRowRepository = exportRowRepository;
+        // Months are archived whole, so the month of the latest archived day is complete
+        LocalDate latest = attendanceArchiveRepository.findLatestDate();
+        this.archivedThrough = latest == null ? null : YearMonth.from(latest).atEndOfMonth();
+        this.frozenThrough = archivedThrough;
+    }
+
+    public LocalDate getArchivedThrough() {
+        return archivedThrough;
+    }
+
+    public boolean isFrozen(LocalDate date) {
+        LocalDate frozen = frozenThrough;
+        return frozen != null && !date.isAfter(frozen);
+    }
+
+    /**
+     * {@link #isFrozen} for a write of the date. Inside a transaction the caller holds off the next
+     * freeze until that transaction completes, so a write that passes this check is committed or
+     * rolled back before the archival job copies its month.
+     */
+    public boolean isFrozenForWrite(LocalDate date) {
+        holdFreezeUntilCompletion();
+        return isFrozen(date);
+    }
+
+    private void holdFreezeUntilCompletion() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(freezeLock)) {
+            return;
+        }
+        freezeLock.readLock().lock();
+        TransactionSynchronizationManager.bindResource(freezeLock, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(freezeLock);
+                freezeLock.readLock().unlock();
+            }
+        });
+    }
+
+    public LocalDate getFrozenThrough() {
+        return frozenThrough;
+    }
+
+    // Called by the archival job before it copies a month, so no write lands behind the copy. Waits
+    // for writes already past their frozen check; writes checking afterwards see the new boundary
+    public void freezeThrough(LocalDate date) {
+        freezeLock.writeLock().lock();
+        try {
+            if (frozenThrough == null || date.isAfter(frozenThrough)) {
+                frozenThrough = date;
+            }
+        } finally {
+            freezeLock.writeLock().unlock();
+        }
+    }
+
+    // Called by the archival job once a month is committed to the archive; never moves back
+    public void markArchivedThrough(LocalDate date) {
+        if (archivedThrough == null || date.isAfter(archivedThrough)) {
+            archivedThrough = date;
+        }
+    }
+
+    public List<Attendance> findByDate(LocalDate date) {
+        return isArchived(date)
+                ? toAttendance(attendanceArchiveRepository.findByDate(date))
+                : attendanceRepository.findByDate(date);
+    }
+
+    public Optional<Attendance> findByEmployee_IdAndDate(String employeeId, LocalDate date) {
+        return isArchived(date)
+                ? attendanceArchiveRepository.findByEmployee_IdAndDate(employeeId, date).map(AttendanceArchive::toAttendance)
+                : attendanceRepository.findByEmployee_IdAndDate(employeeId, date);
+    }
+
+    public List<Attendance> findByDateAndStatus(LocalDate date, Attendance.AttendanceStatus status) {
+        return isArchived(date)
+                ? toAttendance(attendanceArchiveRepository.findByDateAndStatus(date, status))
+                : attendanceRepository.findByDateAndStatus(date, status);
+    }
+
+    public List<Attendance> findByDateAndDepartmentId(LocalDate date, String departmentId) {
+        return isArchived(date)
+                ? toAttendance(attendanceArchiveRepository.findByDateAndDepartmentId(date, departmentId))
+                : attendanceRepository.findByDateAndDepartmentId(date, departmentId);
+    }
+
+    public List<Attendance> findByEmployee_IdAndDateBetween(String employeeId, LocalDate startDate, LocalDate endDate) {
+        return across(startDate, endDate,
+                (start, end) -> toAttendance(attendanceArchiveRepository.findByEmployee_IdAndDateBetween(employeeId, start, end)),
+                (start, end) -> attendanceRepository.findByEmployee_IdAndDateBetween(employeeId, start, end));
+    }
+
+    // Rows from both stores are returned as they are; callers add up the counts per status
+    public List<AttendanceStatusCount> countByStatusForEmployee(String employeeId, LocalDate startDate, LocalDate endDate) {
+        return across(startDate, endDate,
+                (start, end) -> attendanceArchiveRepository.countByStatusForEmployee(employeeId, start, end),
+                (start, end) -> attendanceRepository.countByStatusForEmployee(employeeId, start, end));
+    }
+
+    public List<EmployeeAttendanceAggregate> aggregateByEmployeeAndStatus(LocalDate startDate, LocalDate endDate) {
+        return across(startDate, endDate,
+                attendanceArchiveRepository::aggregateByEmployeeAndStatus,
+                attendanceRepository::aggregateByEmployeeAndStatus);
+    }
+
+    public List<EmployeeAttendanceAggregate> aggregateByEmployeeAndStatusForDepartment(LocalDate startDate, LocalDate endDate, String departmentId) {
+        return across(startDate, endDate,
+                (start, end) -> attendanceArchiveRepository.aggregateByEmployeeAndStatusForDepartment(start, end, departmentId),
+                (start, end) -> attendanceRepository.aggregateByEmployeeAndStatusForDepartment(start, end, departmentId));
+    }
+
+    public List<AttendanceMatrixCount> countByDepartmentDateAndStatus(LocalDate startDate, LocalDate endDate, String departmentId) {
+        LocalDate boundary = archivedThrough;
+        List<AttendanceMatrixCount> counts = across(boundary, startDate, endDate,
+                (start, end) -> attendanceArchiveRepository.countByDepartmentDateAndStatus(start, end, departmentId),
+                (start, end) -> attendanceRepository.countByDepartmentDateAndStatus(start, end, departmentId));
+        if (crosses(boundary, startDate, endDate)) {
+            // Each store orders by department and day; restore that order over the combined rows
+            counts.sort(Comparator.comparing(AttendanceMatrixCount::getDepartmentId).thenComparing(AttendanceMatrixCount::getDate));
+        }
+        return counts;
+    }
+
+    // Ordered by day, the archived days come first; must be consumed inside a read-only transaction
+    public Stream<AttendanceExportRow> streamForExport(LocalDate startDate, LocalDate endDate, String departmentId) {
+        LocalDate boundary = archivedThrough;
+        if (boundary == null || startDate.isAfter(boundary)) {
+            return exportRowRepository.streamAttendance(startDate, endDate, departmentId);
+        }
+        if (!endDate.isAfter(boundary)) {
+            return exportRowRepository.streamArchivedAttendance(startDate, endDate, departmentId);
+        }
+        Stream<AttendanceExportRow> archived = exportRowRepository.streamArchivedAttendance(startDate, boundary, departmentId);
+        SequentialRows<AttendanceExportRow> rows = new SequentialRows<>(archived,
+                () -> exportRowRepository.streamAttendance(boundary.plusDays(1), endDate, departmentId));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED), false)
+                .onClose(rows::close);
+    }
+
+    /**
+     * The rows of one stream, then of a second one opened only after the first is used up and closed,
+     * so a single streamed result is open at a time. Stream.concat would keep the first open, and
+     * flatMap buffers the whole inner stream when read through an iterator.
+     */
+    private static final class SequentialRows<T> implements Iterator<T>, AutoCloseable {
+
+        private Stream<T> current;
+        private Iterator<T> rows;
+        private Supplier<Stream<T>> next;
+
+        SequentialRows(Stream<T> first, Supplier<Stream<T>> second) {
+            this.current = first;
+            this.rows = first.iterator();
+            this.next = second;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!rows.hasNext()) {
+                if (next == null) {
+                    return false;
+                }
+                current.close();
+                current = next.get();
+                next = null;
+                rows = current.iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return rows.next();
+        }
+
+        @Override
+        public void close() {
+            current.close();
+        }
+    }
+
+    private boolean isArchived(LocalDate date) {
+        LocalDate boundary = archivedThrough;
+        return boundary != null && !date.isAfter(boundary);
+    }
+
+    private static boolean crosses(LocalDate boundary, LocalDate startDate, LocalDate endDate) {
+        return boundary != null && !startDate.isAfter(boundary) && endDate.isAfter(boundary);
+    }
+
+    private <T> List<T> across(LocalDate startDate, LocalDate endDate,
+                               BiFunction<LocalDate, LocalDate, List<T>> archived, BiFunction<LocalDate, LocalDate, List<T>> hot) {
+        return across(archivedThrough, startDate, endDate, archived, hot);
+    }
+
+    private static <T> List<T> across(LocalDate boundary, LocalDate startDate, LocalDate endDate,
+                                      BiFunction<LocalDate, LocalDate, List<T>> archived, BiFunction<LocalDate, LocalDate, List<T>> hot) {
+        if (boundary == null || startDate.isAfter(boundary)) {
+            return hot.apply(startDate, endDate);
+        }
+        if (!endDate.isAfter(boundary)) {
+            return archived.apply(startDate, endDate);
+        }
+        List<T> rows = new ArrayList<>(archived.apply(startDate, boundary));
+        rows.addAll(hot.apply(boundary.plusDays(1), endDate));
+        return rows;
+    }
+
+    private static List<Attendance> toAttendance(List<AttendanceArchive> archived) {
+        return archived.stream().map(AttendanceArchive::toAttendance).toList();
+    }
+}
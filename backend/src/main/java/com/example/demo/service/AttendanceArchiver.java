@@ -0,0 +1,81 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.AttendanceArchiveJdbcRepository;
+import com.example.demo.repository.TieredAttendanceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Scheduled job that moves closed months from the attendance table into attendance_archive, keeping
+ * the current month and the {@code attendance.archive.hot-months} before it in the hot table.
+ * Each month is frozen against writes, copied in one transaction, then removed from the hot table
+ * in chunks. The monthly aggregate is not affected, as the rows only change tables.
+ */
+@Service
+public class AttendanceArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceArchiver.class);
+
+    private final AttendanceArchiveJdbcRepository attendanceArchiveJdbcRepository;
+    private final TieredAttendanceRepository tieredAttendanceRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int hotMonths;
+    private final int chunkSize;
+
+    @Autowired
+    public AttendanceArchiver(AttendanceArchiveJdbcRepository attendanceArchiveJdbcRepository, TieredAttendanceRepository tieredAttendanceRepository,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${attendance.archive.hot-months:3}") int hotMonths,
+                              @Value("${attendance.archive.chunk-size:1000}") int chunkSize) {
+        this.attendanceArchiveJdbcRepository = attendanceArchiveJdbcRepository;
+        this.tieredAttendanceRepository = tieredAttendanceRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.hotMonths = hotMonths;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${attendance.archive.cron:0 30 2 * * *}")
+    public void archiveClosedMonths() {
+        archiveBefore(YearMonth.now().minusMonths(hotMonths));
+    }
+
+    // Archives every month before firstHotMonth still in the hot table; returns the rows moved
+    public int archiveBefore(YearMonth firstHotMonth) {
+        LocalDate oldest = attendanceArchiveJdbcRepository.findOldestHotDate();
+        if (oldest == null) {
+            return 0;
+        }
+        int moved = 0;
+        for (YearMonth month = YearMonth.from(oldest); month.isBefore(firstHotMonth); month = month.plusMonths(1)) {
+            moved += archiveMonth(month);
+        }
+        return moved;
+    }
+
+    private int archiveMonth(YearMonth month) {
+        long startedAt = System.currentTimeMillis();
+        LocalDate start = month.atDay(1);
+        LocalDate end = month.atEndOfMonth();
+
+        tieredAttendanceRepository.freezeThrough(end);
+        Integer copied = transactionTemplate.execute(status -> attendanceArchiveJdbcRepository.copyToArchive(start, end));
+        // From here on reads of the month go to the archive, which now holds all of it
+        tieredAttendanceRepository.markArchivedThrough(end);
+
+        int deleted;
+        do {
+            deleted = attendanceArchiveJdbcRepository.deleteArchivedChunk(start, end, chunkSize);
+        } while (deleted == chunkSize);
+
+        log.info("Archived attendance of {}: {} rows in {} ms", month, copied, System.currentTimeMillis() - startedAt);
+        return copied == null ? 0 : copied;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.AttendanceResponseDTO;
+import com.example.demo.model.Attendance;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Results of the per-day attendance reads (by date, date and status, date and department), keyed by
+ * (date, status, department). Entries for a date are dropped once a write touching that date commits.
+ * The expiry is only a safety net for writes made outside AttendanceService.
+ */
+@Component
+public class AttendanceQueryCache {
+
+    private final Cache<Key, List<AttendanceResponseDTO>> cache;
+    // Bumped by every invalidation; a load that overlapped one must not leave its result behind
+    private final AtomicLong generation = new AtomicLong();
+
+    public AttendanceQueryCache(@Value("${attendance.query-cache.max-size:1000}") long maxSize,
+                                @Value("${attendance.query-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * Returns the cached result for the key, or runs the query and caches its result. The returned
+     * list is shared between callers and must not be modified.
+     */
+    public List<AttendanceResponseDTO> get(LocalDate date, Attendance.AttendanceStatus status, String departmentId,
+                                           Supplier<List<AttendanceResponseDTO>> loader) {
+        Key key = new Key(date, status, departmentId);
+        List<AttendanceResponseDTO> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long before = generation.get();
+        List<AttendanceResponseDTO> loaded = List.copyOf(loader.get());
+        if (generation.get() == before) {
+            cache.put(key, loaded);
+            // An invalidation between the check and the put may have run its removal before the put
+            if (generation.get() != before) {
+                cache.invalidate(key);
+            }
+        }
+        return loaded;
+    }
+
+    public void invalidate(LocalDate date) {
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.date().equals(date));
+    }
+
+    public void invalidate(Collection<LocalDate> dates) {
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> dates.contains(key.date()));
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private record Key(LocalDate date, Attendance.AttendanceStatus status, String departmentId) {
+    }
+}
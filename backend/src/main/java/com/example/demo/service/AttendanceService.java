@@ -1,7 +1,14 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.AttendanceBatchResultDTO;
+import com.example.demo.dto.AttendanceBatchRowDTO;
 import com.example.demo.dto.AttendanceCreateDTO;
+import com.example.demo.dto.AttendanceEmployeeDate;
+import com.example.demo.dto.AttendanceMatrixCellDTO;
+import com.example.demo.dto.AttendanceMatrixCount;
+import com.example.demo.dto.AttendanceMatrixDTO;
 import com.example.demo.dto.AttendanceResponseDTO;
+import com.example.demo.dto.AttendanceSummaryDTO;
 import com.example.demo.dto.AttendanceUpdateDTO;
 import com.example.demo.exception.AttendanceAlreadyExistsException;
 import com.example.demo.exception.AttendanceNotFoundException;
@@ -10,39 +17,191 @@ import com.example.demo.exception.NoAttendancesFoundException;
 import com.example.demo.mapper.AttendanceMapper;
 import com.example.demo.model.Attendance;
 import com.example.demo.model.Employee;
+import com.example.demo.repository.AttendanceJdbcRepository;
 import com.example.demo.repository.AttendanceRepository;
 import com.example.demo.repository.EmployeeRepository;
+import com.example.demo.repository.TieredAttendanceRepository;
+import com.example.demo.Util.TransactionCallbacks;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class AttendanceService {
 
+    // Keeps IN (...) lists well below database limits
+    private static final int IN_CLAUSE_CHUNK = 1000;
+
     private final AttendanceRepository attendanceRepository;
+    private final TieredAttendanceRepository tieredAttendanceRepository;
+    private final AttendanceJdbcRepository attendanceJdbcRepository;
     private final EmployeeRepository employeeRepository;
     private final AttendanceMapper attendanceMapper;
+    private final AttendanceQueryCache attendanceQueryCache;
+    private final MonthlyAttendanceService monthlyAttendanceService;
+    private final TableVersions tableVersions;
+    private final int maxBatchRows;
+    private final int maxMatrixDays;
 
     @Autowired
-    public AttendanceService(AttendanceRepository attendanceRepository, EmployeeRepository employeeRepository, AttendanceMapper attendanceMapper) {
+    public AttendanceService(AttendanceRepository attendanceRepository, TieredAttendanceRepository tieredAttendanceRepository,
+                             AttendanceJdbcRepository attendanceJdbcRepository, EmployeeRepository employeeRepository,
+                             AttendanceMapper attendanceMapper, AttendanceQueryCache attendanceQueryCache, MonthlyAttendanceService monthlyAttendanceService,
+                             TableVersions tableVersions,
+                             @Value("${attendance.batch.max-rows:10000}") int maxBatchRows,
+                             @Value("${attendance.matrix.max-days:366}") int maxMatrixDays) {
         this.attendanceRepository = attendanceRepository;
+        this.tieredAttendanceRepository = tieredAttendanceRepository;
+        this.attendanceJdbcRepository = attendanceJdbcRepository;
         this.employeeRepository = employeeRepository;
         this.attendanceMapper = attendanceMapper;
+        this.attendanceQueryCache = attendanceQueryCache;
+        this.monthlyAttendanceService = monthlyAttendanceService;
+        this.tableVersions = tableVersions;
+        this.maxBatchRows = maxBatchRows;
+        this.maxMatrixDays = maxMatrixDays;
     }
 
+    @Transactional
     public AttendanceResponseDTO createAttendance(AttendanceCreateDTO dto) {
+        if (dto.getEmployee_id() == null || dto.getDate() == null || dto.getStatus() == null) {
+            throw new IllegalArgumentException("Employee id, date and status cannot be null");
+        }
+        if (tieredAttendanceRepository.isFrozenForWrite(dto.getDate())) {
+            throw new IllegalArgumentException(archivedMessage(dto.getDate()));
+        }
+        normalizeOverTime(dto);
+
+        // The employee usually comes from the second-level cache; it is read to turn away employees
+        // marked deleted, whose history is being purged. The unique (employee_id, date) key rejects
+        // duplicates atomically, so there is no duplicate check before the INSERT
         Employee employee = employeeRepository.findById(dto.getEmployee_id())
+                .filter(e -> !e.isDeleted())
                 .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + dto.getEmployee_id()));
+        Attendance attendance = attendanceMapper.toEntity(dto, employee);
+        try {
+            Attendance savedAttendance = attendanceRepository.saveAndFlush(attendance);
+            monthlyAttendanceService.recordCreated(dto.getEmployee_id(), dto.getDate(), dto.getStatus(), dto.getOverTimeHours());
+            LocalDate date = savedAttendance.getDate();
+            TransactionCallbacks.afterCommit(() -> attendanceQueryCache.invalidate(date));
+            tableVersions.changedAfterCommit(TableVersions.Table.ATTENDANCE);
+            return attendanceMapper.toResponseDTO(savedAttendance);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateAttendance(e)) {
+                throw new AttendanceAlreadyExistsException("Attendance already exists for employee id: " + dto.getEmployee_id() + " on date: " + dto.getDate());
+            }
+            // The only other constraint an insert with all required fields can break is the employee foreign key
+            throw new EmployeeNotFoundException("Employee not found with id: " + dto.getEmployee_id());
+        }
+    }
+
+    private static boolean isDuplicateAttendance(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase().contains(Attendance.UNIQUE_EMPLOYEE_DATE);
+    }
 
-        // Check if attendance already exists for this specific employee on this specific date
-        if (attendanceRepository.findByEmployee_IdAndDate(dto.getEmployee_id(), dto.getDate()).isPresent()) {
-            throw new AttendanceAlreadyExistsException("Attendance already exists for employee id: " + dto.getEmployee_id() + " on date: " + dto.getDate());
+    /**
+     * Inserts a whole batch of attendance rows. Employees and duplicates are checked for the batch as a
+     * set (a few queries in total rather than two per row), and accepted rows are written with JDBC batches.
+     * Rows that fail a check are reported back instead of failing the batch.
+     */
+    @Transactional
+    public AttendanceBatchResultDTO createAttendanceBatch(List<AttendanceCreateDTO> dtos) {
+        if (dtos == null || dtos.isEmpty()) {
+            throw new IllegalArgumentException("Attendance batch cannot be empty");
         }
-        
-        // Set overtime hours to 0 for certain statuses
+        if (dtos.size() > maxBatchRows) {
+            throw new IllegalArgumentException("Attendance batch cannot contain more than " + maxBatchRows + " rows");
+        }
+
+        Set<String> employeeIds = new HashSet<>();
+        LocalDate minDate = null;
+        LocalDate maxDate = null;
+        for (AttendanceCreateDTO dto : dtos) {
+            if (dto.getEmployee_id() != null && dto.getDate() != null) {
+                employeeIds.add(dto.getEmployee_id());
+                minDate = minDate == null || dto.getDate().isBefore(minDate) ? dto.getDate() : minDate;
+                maxDate = maxDate == null || dto.getDate().isAfter(maxDate) ? dto.getDate() : maxDate;
+            }
+        }
+
+        Set<String> knownEmployees = new HashSet<>();
+        Set<String> existingKeys = new HashSet<>();
+        List<String> ids = new ArrayList<>(employeeIds);
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK) {
+            List<String> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK, ids.size()));
+            knownEmployees.addAll(employeeRepository.findExistingIds(chunk));
+            for (AttendanceEmployeeDate key : attendanceRepository.findKeysForEmployeesBetween(chunk, minDate, maxDate)) {
+                existingKeys.add(batchKey(key.getEmployeeId(), key.getDate()));
+            }
+        }
+
+        List<AttendanceBatchRowDTO> report = new ArrayList<>(dtos.size());
+        List<AttendanceCreateDTO> accepted = new ArrayList<>(dtos.size());
+        for (int i = 0; i < dtos.size(); i++) {
+            AttendanceCreateDTO dto = dtos.get(i);
+            String reason = null;
+            if (dto.getEmployee_id() == null || dto.getDate() == null || dto.getStatus() == null) {
+                reason = "employee_id, date and status are required";
+            } else if (tieredAttendanceRepository.isFrozenForWrite(dto.getDate())) {
+                reason = archivedMessage(dto.getDate());
+            } else if (!knownEmployees.contains(dto.getEmployee_id())) {
+                reason = "Employee not found with id: " + dto.getEmployee_id();
+            } else if (!existingKeys.add(batchKey(dto.getEmployee_id(), dto.getDate()))) {
+                // add() fails both for rows already stored and for repeats within this batch
+                reason = "Attendance already exists for employee id: " + dto.getEmployee_id() + " on date: " + dto.getDate();
+            }
+            if (reason == null) {
+                normalizeOverTime(dto);
+                accepted.add(dto);
+            }
+            report.add(new AttendanceBatchRowDTO(i, dto.getEmployee_id(), dto.getDate(), reason == null, reason));
+        }
+
+        if (!accepted.isEmpty()) {
+            try {
+                attendanceJdbcRepository.batchInsert(accepted);
+            } catch (DuplicateKeyException e) {
+                // Another submission stored one of these rows after the duplicate check; nothing from this batch is kept
+                throw new AttendanceAlreadyExistsException("Attendance for some rows of this batch was recorded concurrently, please resubmit the batch");
+            }
+            monthlyAttendanceService.recordCreated(accepted);
+            Set<LocalDate> dates = accepted.stream().map(AttendanceCreateDTO::getDate).collect(Collectors.toSet());
+            TransactionCallbacks.afterCommit(() -> attendanceQueryCache.invalidate(dates));
+            tableVersions.changedAfterCommit(TableVersions.Table.ATTENDANCE);
+        }
+
+        AttendanceBatchResultDTO result = new AttendanceBatchResultDTO();
+        result.setReceived(dtos.size());
+        result.setAccepted(accepted.size());
+        result.setRejected(dtos.size() - accepted.size());
+        result.setRows(report);
+        return result;
+    }
+
+    private static String archivedMessage(LocalDate date) {
+        return "Attendance on " + date + " is archived and can no longer be changed";
+    }
+
+    private static String batchKey(String employeeId, LocalDate date) {
+        return employeeId + '|' + date;
+    }
+
+    // Overtime only applies to PRESENT days and defaults to 0
+    private static void normalizeOverTime(AttendanceCreateDTO dto) {
         if (dto.getStatus() != null && 
             (dto.getStatus() == Attendance.AttendanceStatus.LEAVE || 
              dto.getStatus() == Attendance.AttendanceStatus.NO_PAY || 
@@ -51,29 +210,31 @@ public class AttendanceService {
         } else if (dto.getOverTimeHours() == null) {
             dto.setOverTimeHours(0.0); // Default to 0 if not provided
         }
-        Attendance attendance = attendanceMapper.toEntity(dto, employee);
-        Attendance savedAttendance = attendanceRepository.save(attendance);
-        return attendanceMapper.toResponseDTO(savedAttendance);
     }
 
     public List<AttendanceResponseDTO> getAttendanceByDate(LocalDate date) {
-        List<Attendance> attendances = attendanceRepository.findByDate(date);
+        List<AttendanceResponseDTO> attendances = attendanceQueryCache.get(date, null, null,
+                () -> toResponseDTOs(tieredAttendanceRepository.findByDate(date)));
         if (attendances.isEmpty()) {
             throw new NoAttendancesFoundException("No attendance records found for date: " + date);
         }
+        return attendances;
+    }
+
+    private List<AttendanceResponseDTO> toResponseDTOs(List<Attendance> attendances) {
         return attendances.stream()
                 .map(attendanceMapper::toResponseDTO)
                 .toList();
     }
 
     public AttendanceResponseDTO getAttendanceByEmployeeIdAndDate(String id, LocalDate date) {
-        if (employeeRepository.findById(id).isEmpty()) {
+        if (!employeeRepository.existsByIdAndDeletedAtIsNull(id)) {
             throw new EmployeeNotFoundException("Employee not found with id: " + id);
         }
         if (date == null) {
             throw new IllegalArgumentException("Date cannot be null");
         }
-        Attendance attendance = attendanceRepository.findByEmployee_IdAndDate(id , date)
+        Attendance attendance = tieredAttendanceRepository.findByEmployee_IdAndDate(id, date)
                 .orElseThrow(() -> new NoAttendancesFoundException("Attendance not found for employee id: " + id + " on date: " + date));
         return attendanceMapper.toResponseDTO(attendance);
     }
@@ -82,38 +243,37 @@ public class AttendanceService {
         if (date == null || status == null) {
             throw new IllegalArgumentException("Date and status cannot be null");
         }
-        List<Attendance> attendances = attendanceRepository.findByDateAndStatus(date, status);
+        List<AttendanceResponseDTO> attendances = attendanceQueryCache.get(date, status, null,
+                () -> toResponseDTOs(tieredAttendanceRepository.findByDateAndStatus(date, status)));
         if (attendances.isEmpty()) {
             throw new NoAttendancesFoundException("No attendance records found for date: " + date + " with status: " + status);
         }
-        return attendances.stream()
-                .map(attendanceMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        return attendances;
     }
 
     public List<AttendanceResponseDTO> getAttendancesByDateAndDepartmentId(LocalDate date, String department_id) {
         if (date == null || department_id == null) {
             throw new IllegalArgumentException("Date and department Id cannot be null");
         }
-        List<Attendance> attendances = attendanceRepository.findByDateAndDepartmentId(date, department_id);
+        List<AttendanceResponseDTO> attendances = attendanceQueryCache.get(date, null, department_id,
+                () -> toResponseDTOs(tieredAttendanceRepository.findByDateAndDepartmentId(date, department_id)));
         if (attendances.isEmpty()) {
             throw new NoAttendancesFoundException("No attendance records found for date: " + date + " with department: " + department_id);
         }
-        return attendances.stream()
-                .map(attendanceMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        return attendances;
     }
 
     public List<AttendanceResponseDTO> getAttendanceByEmployeeIdAndDateRange(String id, LocalDate startDate, LocalDate endDate) {
-        employeeRepository.findById(id)
-                .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + id));
+        if (!employeeRepository.existsByIdAndDeletedAtIsNull(id)) {
+            throw new EmployeeNotFoundException("Employee not found with id: " + id);
+        }
         if (startDate == null || endDate == null) {
             throw new IllegalArgumentException("Start date and end date cannot be null");
         }
         if (startDate.isAfter(endDate)) {
             throw new IllegalArgumentException("Start date cannot be after end date");
         }
-        List<Attendance> attendances = attendanceRepository.findByEmployee_IdAndDateBetween(id, startDate, endDate);
+        List<Attendance> attendances = tieredAttendanceRepository.findByEmployee_IdAndDateBetween(id, startDate, endDate);
         if (attendances.isEmpty()) {
             throw new NoAttendancesFoundException("No attendance records found for employee id: " + id + " between " + startDate + " and " + endDate);
         }
@@ -122,9 +282,75 @@ public class AttendanceService {
                 .toList();
     }
 
+    /**
+     * Per-status day counts and total overtime for an employee over a date range. Whole months come
+     * from the monthly aggregate; only partial months at the ends of the range read daily rows.
+     */
+    @Transactional(readOnly = true)
+    public AttendanceSummaryDTO getAttendanceSummary(String id, LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Start date and end date cannot be null");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date cannot be after end date");
+        }
+        if (!employeeRepository.existsByIdAndDeletedAtIsNull(id)) {
+            throw new EmployeeNotFoundException("Employee not found with id: " + id);
+        }
+        AttendanceTotals totals = monthlyAttendanceService.totalsForEmployee(id, startDate, endDate);
+        return attendanceMapper.toSummaryDTO(id, startDate, endDate, totals);
+    }
+
+    /**
+     * Attendance counts per department, day and status over a date range (optionally one department),
+     * from a single grouped query. Replaces one per-day request per department and status.
+     */
+    public AttendanceMatrixDTO getAttendanceMatrix(LocalDate startDate, LocalDate endDate, String departmentId) {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Start date and end date cannot be null");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date cannot be after end date");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > maxMatrixDays) {
+            throw new IllegalArgumentException("Date range cannot be longer than " + maxMatrixDays + " days");
+        }
+
+        // Rows arrive ordered by department and day, so each cell's statuses are adjacent
+        Map<String, AttendanceMatrixCellDTO> cells = new LinkedHashMap<>();
+        for (AttendanceMatrixCount count : tieredAttendanceRepository.countByDepartmentDateAndStatus(startDate, endDate, departmentId)) {
+            AttendanceMatrixCellDTO cell = cells.computeIfAbsent(count.getDepartmentId() + '|' + count.getDate(), key -> {
+                AttendanceMatrixCellDTO created = new AttendanceMatrixCellDTO();
+                created.setDepartment_id(count.getDepartmentId());
+                created.setDate(count.getDate());
+                return created;
+            });
+            switch (count.getStatus()) {
+                case PRESENT -> cell.setCountPRESENT(count.getCount());
+                case HALF_DAY -> cell.setCountHALF_DAY(count.getCount());
+                case LEAVE -> cell.setCountLEAVE(count.getCount());
+                case NO_PAY -> cell.setCountNO_PAY(count.getCount());
+            }
+            cell.setTotal(cell.getTotal() + count.getCount());
+        }
+
+        AttendanceMatrixDTO matrix = new AttendanceMatrixDTO();
+        matrix.setStartDate(startDate);
+        matrix.setEndDate(endDate);
+        matrix.setDepartment_id(departmentId);
+        matrix.setCells(new ArrayList<>(cells.values()));
+        return matrix;
+    }
+
+    @Transactional
     public AttendanceResponseDTO updateAttendance(Long id, AttendanceUpdateDTO dto) {
         Attendance attendance = attendanceRepository.findById(id)
                 .orElseThrow(() -> new AttendanceNotFoundException("Attendance not found with id: " + id));
+        if (tieredAttendanceRepository.isFrozenForWrite(attendance.getDate())) {
+            throw new IllegalArgumentException(archivedMessage(attendance.getDate()));
+        }
+        Attendance.AttendanceStatus previousStatus = attendance.getStatus();
+        double previousOverTimeHours = attendance.getOverTimeHours();
         
         if (dto.getStatus() != null){
             attendance.setStatus(dto.getStatus());
@@ -141,6 +367,12 @@ public class AttendanceService {
         }
         
         Attendance savedAttendance = attendanceRepository.save(attendance);
+        // The employee reference is lazy, its id is available without loading the employee
+        monthlyAttendanceService.recordChanged(savedAttendance.getEmployee().getId(), savedAttendance.getDate(),
+                previousStatus, previousOverTimeHours, savedAttendance.getStatus(), savedAttendance.getOverTimeHours());
+        LocalDate date = savedAttendance.getDate();
+        TransactionCallbacks.afterCommit(() -> attendanceQueryCache.invalidate(date));
+        tableVersions.changedAfterCommit(TableVersions.Table.ATTENDANCE);
         return attendanceMapper.toResponseDTO(savedAttendance);
     }
 
@@ -0,0 +1,65 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.AttendanceStatusCount;
+import com.example.demo.dto.EmployeeMonthlyTotals;
+import com.example.demo.model.Attendance;
+
+import java.util.List;
+
+/**
+ * Per-status day counts and overtime for one employee over a period.
+ * Filled from grouped attendance rows or attendance_monthly totals instead of loading every Attendance entity.
+ */
+public class AttendanceTotals {
+    private int daysPresent;
+    private int daysLeave;
+    private int daysHalfDay;
+    private int daysNoPay;
+    private double overTimeHours;
+
+    public static AttendanceTotals of(List<AttendanceStatusCount> counts) {
+        AttendanceTotals totals = new AttendanceTotals();
+        for (AttendanceStatusCount count : counts) {
+            totals.add(count.getStatus(), count.getDays(), count.getOverTimeHours());
+        }
+        return totals;
+    }
+
+    public void add(Attendance.AttendanceStatus status, long days, double overTime) {
+        switch (status) {
+            case PRESENT -> daysPresent += (int) days;
+            case LEAVE -> daysLeave += (int) days;
+            case HALF_DAY -> daysHalfDay += (int) days;
+            case NO_PAY -> daysNoPay += (int) days;
+        }
+        overTimeHours += overTime;
+    }
+
+    public void add(EmployeeMonthlyTotals monthly) {
+        daysPresent += (int) monthly.getDaysPresent();
+        daysLeave += (int) monthly.getDaysLeave();
+        daysHalfDay += (int) monthly.getDaysHalfDay();
+        daysNoPay += (int) monthly.getDaysNoPay();
+        overTimeHours += monthly.getOverTimeHours();
+    }
+
+    public int getDaysPresent() {
+        return daysPresent;
+    }
+
+    public int getDaysLeave() {
+        return daysLeave;
+    }
+
+    public int getDaysHalfDay() {
+        return daysHalfDay;
+    }
+
+    public int getDaysNoPay() {
+        return daysNoPay;
+    }
+
+    public double getOverTimeHours() {
+        return overTimeHours;
+    }
+}
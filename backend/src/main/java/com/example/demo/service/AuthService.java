@@ -4,10 +4,12 @@ import com.example.demo.Util.JwtUtil;
 import com.example.demo.dto.LoginRequest;
 import com.example.demo.dto.LoginResponse;
 import com.example.demo.exception.AuthenticationFailedException;
+import com.example.demo.exception.PasswordHashingUnavailableException;
 import com.example.demo.mapper.LoginMapper;
 import com.example.demo.model.Employee;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -46,6 +48,13 @@ public class AuthService {
             String token = jwtUtil.generateToken(employee, claims);
 
             return loginMapper.toLoginResponse(employee, token);
+        } catch (InternalAuthenticationServiceException e) {
+            // DaoAuthenticationProvider wraps whatever fails during the user lookup; a saturated
+            // password hashing pool reported that way is still a 503, not a bad login
+            if (e.getCause() instanceof PasswordHashingUnavailableException unavailable) {
+                throw unavailable;
+            }
+            throw new AuthenticationFailedException("Invalid email or password");
         } catch (AuthenticationException e) {
             throw new AuthenticationFailedException("Invalid email or password");
         }
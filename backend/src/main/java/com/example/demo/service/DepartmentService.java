@@ -5,7 +5,9 @@ import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.Util.TransactionCallbacks;
 import com.example.demo.dto.DepartmentCreateDTO;
 import com.example.demo.dto.DepartmentResponseDTO;
 import com.example.demo.dto.DepartmentUpdateDTO;
@@ -16,16 +18,23 @@ import com.example.demo.mapper.DepartmentMapper;
 import com.example.demo.model.Department;
 import com.example.demo.repository.DepartmentRepository;
 
+import jakarta.persistence.EntityManagerFactory;
+
 @Service
 public class DepartmentService {
 
     private final DepartmentRepository departmentRepository;
     private final DepartmentMapper departmentMapper;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TableVersions tableVersions;
 
     @Autowired
-    public DepartmentService(DepartmentRepository departmentRepository, DepartmentMapper departmentMapper) {
+    public DepartmentService(DepartmentRepository departmentRepository, DepartmentMapper departmentMapper, EntityManagerFactory entityManagerFactory,
+                             TableVersions tableVersions) {
         this.departmentRepository = departmentRepository;
         this.departmentMapper = departmentMapper;
+        this.entityManagerFactory = entityManagerFactory;
+        this.tableVersions = tableVersions;
     }
 
     public DepartmentResponseDTO addDepartment(DepartmentCreateDTO dto) {
@@ -37,6 +46,7 @@ public class DepartmentService {
         department.setId(id); // Manually set the ID
 
         Department savedDepartment = departmentRepository.save(department);
+        tableVersions.changed(TableVersions.Table.DEPARTMENT);
         return departmentMapper.toResponseDTO(savedDepartment);
     }
 
@@ -56,12 +66,15 @@ public class DepartmentService {
         return departmentMapper.toResponseDTO(department);
     }
 
+    @Transactional
     public void deleteDepartment(String id) {
         departmentRepository.findById(id)
                 .orElseThrow(() -> new DepartmentNotFoundException("Department with id " + id + " does not exist"));
         departmentRepository.deleteById(id);
+        evictAfterCommit(id);
     }
 
+    @Transactional
     public DepartmentResponseDTO updateDepartment(String id, DepartmentUpdateDTO dto) {
         Department existingDepartment = departmentRepository.findById(id)
                 .orElseThrow(() -> new DepartmentNotFoundException("Department with id " + id + " does not exist"));
@@ -72,7 +85,16 @@ public class DepartmentService {
             existingDepartment.setOverTimeRate(dto.getOverTimeRate());
         }
         Department saved = departmentRepository.save(existingDepartment);
+        evictAfterCommit(id);
         return departmentMapper.toResponseDTO(saved);
     }
 
+    // Hibernate keeps the cached entry in step with writes made through the session; the explicit
+    // eviction also covers rows touched outside it (native SQL, manual fixes) before the next read.
+    // The department list's ETag moves on at the same time.
+    private void evictAfterCommit(String id) {
+        TransactionCallbacks.afterCommit(() -> entityManagerFactory.getCache().evict(Department.class, id));
+        tableVersions.changedAfterCommit(TableVersions.Table.DEPARTMENT);
+    }
+
 }
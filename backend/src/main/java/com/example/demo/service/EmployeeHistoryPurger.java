@@ -0,0 +1,145 @@
+package com.example.demo.service;
+
+import com.example.demo.model.Employee;
+import com.example.demo.repository.EmployeeHistoryJdbcRepository;
+import com.example.demo.repository.EmployeeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Removes the history of employees deleted in background mode: current and archived attendance and
+ * salaries in small chunks, each committed on its own with a short pause in between, then the
+ * monthly totals and the employee row. Purges run one at a time on a single worker thread. One interrupted by a
+ * shutdown is picked up again on the next start, as the employee is still marked deleted.
+ */
+@Service
+public class EmployeeHistoryPurger implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeHistoryPurger.class);
+
+    // Passes over the history before a purge gives up until the next start
+    private static final int MAX_PASSES = 3;
+
+    private final EmployeeHistoryJdbcRepository employeeHistoryJdbcRepository;
+    private final EmployeeRepository employeeRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final AttendanceQueryCache attendanceQueryCache;
+    private final TableVersions tableVersions;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final ThreadPoolExecutor executor;
+
+    @Autowired
+    public EmployeeHistoryPurger(EmployeeHistoryJdbcRepository employeeHistoryJdbcRepository, EmployeeRepository employeeRepository,
+                                 EntityManagerFactory entityManagerFactory, AttendanceQueryCache attendanceQueryCache, TableVersions tableVersions,
+                                 @Value("${employee.purge.chunk-size:1000}") int chunkSize,
+                                 @Value("${employee.purge.pause-ms:50}") long pauseMillis) {
+        this.employeeHistoryJdbcRepository = employeeHistoryJdbcRepository;
+        this.employeeRepository = employeeRepository;
+        this.entityManagerFactory = entityManagerFactory;
+        this.attendanceQueryCache = attendanceQueryCache;
+        this.tableVersions = tableVersions;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> new Thread(runnable, "employee-purge"));
+    }
+
+    public void purgeInBackground(String employeeId) {
+        executor.execute(() -> purge(employeeId));
+    }
+
+    // Restarts the purges a previous run of the application did not finish
+    public void resumePending() {
+        for (String employeeId : employeeRepository.findDeletedIds()) {
+            log.info("Resuming history purge of deleted employee {}", employeeId);
+            purgeInBackground(employeeId);
+        }
+    }
+
+    public ThreadPoolExecutor getExecutor() {
+        return executor;
+    }
+
+    private void purge(String employeeId) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            int attendance = 0;
+            int archived = 0;
+            int salaries = 0;
+            for (int pass = 1; ; pass++) {
+                int attendanceChunk = deleteInChunks(employeeId, employeeHistoryJdbcRepository::deleteAttendanceChunk);
+                int archivedChunk = deleteInChunks(employeeId, employeeHistoryJdbcRepository::deleteArchivedAttendanceChunk);
+                int salaryChunk = deleteInChunks(employeeId, employeeHistoryJdbcRepository::deleteSalaryChunk);
+                if (attendanceChunk < 0 || archivedChunk < 0 || salaryChunk < 0) {
+                    return;
+                }
+                attendance += attendanceChunk;
+                archived += archivedChunk;
+                salaries += salaryChunk;
+                employeeHistoryJdbcRepository.deleteMonthlyAttendance(employeeId);
+                try {
+                    employeeHistoryJdbcRepository.deleteMarkedEmployee(employeeId);
+                    break;
+                } catch (DataIntegrityViolationException e) {
+                    // A request that read the employee before the delete committed wrote a row after
+                    // its table was cleared; go over the history again
+                    if (pass == MAX_PASSES) {
+                        throw e;
+                    }
+                    log.info("Employee {} gained history during its purge, purging again", employeeId);
+                }
+            }
+            // The row was removed behind Hibernate's back
+            entityManagerFactory.getCache().evict(Employee.class, employeeId);
+            if (attendance + archived > 0) {
+                attendanceQueryCache.invalidateAll();
+                tableVersions.changed(TableVersions.Table.ATTENDANCE);
+            }
+            log.info("Purged employee {}: {} attendance rows, {} archived and {} salaries in {} ms",
+                    employeeId, attendance, archived, salaries, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("Purge of deleted employee {} failed, it is retried on the next start", employeeId, e);
+        }
+    }
+
+    // Rows deleted, or -1 when interrupted by a shutdown
+    private int deleteInChunks(String employeeId, ToIntBiFunction<String, Integer> deleteChunk) {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = deleteChunk.applyAsInt(employeeId, chunkSize);
+            total += deleted;
+            if (deleted == chunkSize && !pause()) {
+                return -1;
+            }
+        } while (deleted == chunkSize);
+        return total;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo.service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.model.Department;
+import com.example.demo.model.EmployeeIdSequence;
+import com.example.demo.repository.EmployeeIdSequenceRepository;
+import com.example.demo.repository.EmployeeRepository;
+
+/**
+ * Hands out employee ids (department id + number) from per-department blocks reserved in the
+ * employee_id_sequence table. Most calls are served from memory; only when a block runs out is
+ * the counter row locked and advanced by a whole block, in its own short transaction. Numbers left
+ * in a block when the application stops are skipped, so ids stay unique but may have gaps.
+ */
+@Component
+public class EmployeeIdGenerator {
+
+    private final EmployeeIdSequenceRepository sequenceRepository;
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate requiresNew;
+    private final int blockSize;
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    @Autowired
+    public EmployeeIdGenerator(EmployeeIdSequenceRepository sequenceRepository, EmployeeRepository employeeRepository,
+                               PlatformTransactionManager transactionManager, @Value("${employee.id.block-size:20}") int blockSize) {
+        this.sequenceRepository = sequenceRepository;
+        this.employeeRepository = employeeRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+    }
+
+    public String nextId(Department department) {
+        Block block = blocks.computeIfAbsent(department.getId(), id -> new Block());
+        // A lock rather than synchronized: the holder may block on the database, which would pin a virtual thread
+        block.lock.lock();
+        try {
+            if (block.next >= block.limit) {
+                long start = allocateBlock(department);
+                block.next = start;
+                block.limit = start + blockSize;
+            }
+            return department.getId() + (block.next++);
+        } finally {
+            block.lock.unlock();
+        }
+    }
+
+    private long allocateBlock(Department department) {
+        try {
+            return requiresNew.execute(status -> reserveBlock(department));
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created the department's counter row at the same time; it exists now
+            return requiresNew.execute(status -> reserveBlock(department));
+        }
+    }
+
+    private long reserveBlock(Department department) {
+        EmployeeIdSequence sequence = sequenceRepository.findForUpdate(department.getId()).orElse(null);
+        if (sequence == null) {
+            // First allocation for this department: carry on after the highest number already in use
+            long next = Optional.ofNullable(employeeRepository.findMaxIdNumberByDepartment(department)).orElse(0) + 1;
+            sequence = new EmployeeIdSequence(department.getId(), next);
+        }
+        long start = sequence.getNextValue();
+        sequence.setNextValue(start + blockSize);
+        sequenceRepository.saveAndFlush(sequence);
+        return start;
+    }
+
+    private static final class Block {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long next;
+        private long limit;
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.EmployeeResponseDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory typeahead index over the active employees' id, first and last name, email, NIC and phone.
+ * Every field is indexed by its trigrams, which answer substring terms of three or more characters,
+ * and by the one- and two-character prefixes of its words (runs of letters and digits), which answer
+ * shorter terms; a short term is therefore matched only at the start of a word, and never when it
+ * contains punctuation. A lookup walks the smallest posting list of the query's keys and checks
+ * only those candidates against the others, so its cost follows the number of plausible matches
+ * rather than the number of employees.
+ * <p>
+ * Built on startup and kept in step by EmployeeService after each committed write. Like the other
+ * in-memory caches here, it assumes writes go through this application instance.
+ */
+@Component
+public class EmployeeSearchIndex {
+
+    private static final int GRAM = 3;
+    // Marks prefix keys so they never collide with trigrams
+    private static final char PREFIX = '\u0000';
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Entry> entries = new HashMap<>();
+    // Key -> ids sorted ascending, so results come out ordered by id and membership is a binary search
+    private final Map<String, ArrayList<String>> postings = new HashMap<>();
+
+    // Keys are not kept per entry; they are derived from the fields again on removal
+    private record Entry(EmployeeResponseDTO employee, List<String> fields) {
+    }
+
+    public record Page(int total, List<EmployeeResponseDTO> items) {
+    }
+
+    public void rebuild(Collection<EmployeeResponseDTO> employees) {
+        List<EmployeeResponseDTO> sorted = new ArrayList<>(employees);
+        // Adding in id order turns every posting insert into an append
+        sorted.sort(Comparator.comparing(EmployeeResponseDTO::getId));
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            postings.clear();
+            sorted.forEach(this::add);
+            postings.values().forEach(ArrayList::trimToSize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void put(EmployeeResponseDTO employee) {
+        lock.writeLock().lock();
+        try {
+            unindex(employee.getId());
+            add(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String employeeId) {
+        lock.writeLock().lock();
+        try {
+            unindex(employeeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Employees matching every whitespace-separated term of the query, ordered by id.
+     * @param page zero-based page number
+     */
+    public Page search(String query, int page, int size) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty()) {
+            return new Page(0, List.of());
+        }
+        lock.readLock().lock();
+        try {
+            List<List<String>> lists = new ArrayList<>();
+            for (String term : terms) {
+                for (String key : queryKeys(term)) {
+                    List<String> ids = postings.get(key);
+                    if (ids == null) {
+                        return new Page(0, List.of());
+                    }
+                    lists.add(ids);
+                }
+            }
+            lists.sort(Comparator.comparingInt(List::size));
+            List<String> candidates = lists.get(0);
+            List<List<String>> others = lists.subList(1, lists.size());
+            // Terms up to GRAM characters are exactly their key, so only longer ones need checking
+            List<String> unverified = terms.stream().filter(term -> term.length() > GRAM).toList();
+
+            long from = (long) page * size;
+            List<EmployeeResponseDTO> items = new ArrayList<>(Math.min(size, candidates.size()));
+            if (others.isEmpty() && unverified.isEmpty()) {
+                // One exact key: its posting list is the result
+                for (long i = from; i < candidates.size() && items.size() < size; i++) {
+                    items.add(entries.get(candidates.get((int) i)).employee());
+                }
+                return new Page(candidates.size(), items);
+            }
+
+            int total = 0;
+            for (String id : candidates) {
+                if (!containsAll(others, id)) {
+                    continue;
+                }
+                Entry entry = entries.get(id);
+                if (!matchesAll(entry, unverified)) {
+                    continue;
+                }
+                if (total >= from && items.size() < size) {
+                    items.add(entry.employee());
+                }
+                total++;
+            }
+            return new Page(total, items);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean containsAll(List<List<String>> lists, String id) {
+        for (List<String> ids : lists) {
+            if (Collections.binarySearch(ids, id) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void add(EmployeeResponseDTO employee) {
+        List<String> fields = new ArrayList<>();
+        for (String value : new String[] { employee.getId(), employee.getFirstName(), employee.getLastName(),
+                employee.getEmail(), employee.getNic(), employee.getPhone() }) {
+            if (value != null && !value.isBlank()) {
+                fields.add(normalize(value));
+            }
+        }
+        String id = employee.getId();
+        for (String key : keys(fields)) {
+            ArrayList<String> ids = postings.computeIfAbsent(key, k -> new ArrayList<>());
+            if (ids.isEmpty() || ids.get(ids.size() - 1).compareTo(id) < 0) {
+                ids.add(id);
+            } else {
+                int position = Collections.binarySearch(ids, id);
+                if (position < 0) {
+                    ids.add(-position - 1, id);
+                }
+            }
+        }
+        entries.put(id, new Entry(employee, fields));
+    }
+
+    private void unindex(String employeeId) {
+        Entry entry = entries.remove(employeeId);
+        if (entry == null) {
+            return;
+        }
+        for (String key : keys(entry.fields())) {
+            ArrayList<String> ids = postings.get(key);
+            int position = Collections.binarySearch(ids, employeeId);
+            if (position >= 0) {
+                ids.remove(position);
+            }
+            if (ids.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private static Set<String> keys(List<String> fields) {
+        Set<String> keys = new HashSet<>();
+        for (String field : fields) {
+            for (int i = 0; i + GRAM <= field.length(); i++) {
+                keys.add(field.substring(i, i + GRAM));
+            }
+            for (String word : words(field)) {
+                if (word.isEmpty()) {
+                    continue; // a field starting with punctuation, e.g. "+94..."
+                }
+                keys.add(PREFIX + word.substring(0, 1));
+                if (word.length() > 1) {
+                    keys.add(PREFIX + word.substring(0, 2));
+                }
+            }
+        }
+        return keys;
+    }
+
+    private static List<String> queryKeys(String term) {
+        if (term.length() < GRAM) {
+            return List.of(PREFIX + term);
+        }
+        List<String> keys = new ArrayList<>(term.length() - GRAM + 1);
+        for (int i = 0; i + GRAM <= term.length(); i++) {
+            keys.add(term.substring(i, i + GRAM));
+        }
+        return keys;
+    }
+
+    // Sharing every trigram of a longer term does not mean containing it, so check the fields themselves
+    private static boolean matchesAll(Entry entry, List<String> terms) {
+        for (String term : terms) {
+            if (!matches(entry, term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(Entry entry, String term) {
+        for (String field : entry.fields()) {
+            if (field.contains(term)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> terms(String query) {
+        if (query == null) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        for (String term : normalize(query).split("\\s+")) {
+            if (!term.isEmpty() && !terms.contains(term)) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    // Words of a field: runs of letters and digits, so "first.last@company.com" has four
+    private static String[] words(String field) {
+        return field.split("[^\\p{L}\\p{N}]+");
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
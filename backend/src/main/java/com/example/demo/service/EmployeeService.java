@@ -1,23 +1,33 @@
 package com.example.demo.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.Config.PrincipalCache;
+import com.example.demo.Util.TransactionCallbacks;
 import com.example.demo.dto.EmployeeCreateDTO;
+import com.example.demo.dto.EmployeePageDTO;
 import com.example.demo.dto.EmployeeResponseDTO;
+import com.example.demo.dto.EmployeeSearchPageDTO;
 import com.example.demo.dto.EmployeeUpdateDTO;
 import com.example.demo.dto.PasswordUpdateDTO;
 import com.example.demo.exception.DepartmentNotFoundException;
@@ -26,39 +36,81 @@ import com.example.demo.exception.EmployeeNotFoundException;
 import com.example.demo.exception.InvalidPasswordException;
 import com.example.demo.exception.NoEmployeesFoundException;
 import com.example.demo.mapper.EmployeeMapper;
-import com.example.demo.model.Attendance;
 import com.example.demo.model.Department;
 import com.example.demo.model.Employee;
 import com.example.demo.model.Role;
-import com.example.demo.model.Salary;
+import com.example.demo.repository.AttendanceArchiveRepository;
 import com.example.demo.repository.AttendanceRepository;
 import com.example.demo.repository.DepartmentRepository;
 import com.example.demo.repository.EmployeeRepository;
+import com.example.demo.repository.EmployeeSpecifications;
 import com.example.demo.repository.SalaryRepository;
 
 @Service
-public class EmployeeService implements UserDetailsService {
+public class EmployeeService implements UserDetailsService, UserDetailsPasswordService {
 
     private final EmployeeRepository employeeRepository;
     private final DepartmentRepository departmentRepository;
     private final SalaryRepository salaryRepository;
     private final AttendanceRepository attendanceRepository;
+    private final AttendanceArchiveRepository attendanceArchiveRepository;
     private final EmployeeMapper employeeMapper;
+    private final PrincipalCache principalCache;
+    private final AttendanceQueryCache attendanceQueryCache;
+    private final MonthlyAttendanceService monthlyAttendanceService;
+    private final EmployeeIdGenerator employeeIdGenerator;
+    private final EmployeeHistoryPurger employeeHistoryPurger;
+    private final TableVersions tableVersions;
+    private final EmployeeSearchIndex employeeSearchIndex;
 
     @Autowired
     public EmployeeService(EmployeeRepository employeeRepository, DepartmentRepository departmentRepository, 
-                          SalaryRepository salaryRepository, AttendanceRepository attendanceRepository, 
-                          EmployeeMapper employeeMapper) {
+                          SalaryRepository salaryRepository, AttendanceRepository attendanceRepository,
+                          AttendanceArchiveRepository attendanceArchiveRepository,
+                          EmployeeMapper employeeMapper, PrincipalCache principalCache, EmployeeIdGenerator employeeIdGenerator,
+                          AttendanceQueryCache attendanceQueryCache, MonthlyAttendanceService monthlyAttendanceService,
+                          EmployeeHistoryPurger employeeHistoryPurger, TableVersions tableVersions,
+                          EmployeeSearchIndex employeeSearchIndex) {
         this.employeeRepository = employeeRepository;
         this.departmentRepository = departmentRepository;
         this.salaryRepository = salaryRepository;
         this.attendanceRepository = attendanceRepository;
+        this.attendanceArchiveRepository = attendanceArchiveRepository;
         this.employeeMapper = employeeMapper;
+        this.principalCache = principalCache;
+        this.attendanceQueryCache = attendanceQueryCache;
+        this.monthlyAttendanceService = monthlyAttendanceService;
+        this.employeeIdGenerator = employeeIdGenerator;
+        this.employeeHistoryPurger = employeeHistoryPurger;
+        this.tableVersions = tableVersions;
+        this.employeeSearchIndex = employeeSearchIndex;
     }
 
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Value("${employee.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${employee.page.max-size:200}")
+    private int maxPageSize;
+
+    // immediate: delete the history in the request; background: mark deleted and purge afterwards
+    @Value("${employee.delete.mode:immediate}")
+    private String defaultDeleteMode;
+
+    @Value("${employee.search.default-size:20}")
+    private int defaultSearchSize;
+
+    @Value("${employee.search.max-size:100}")
+    private int maxSearchSize;
+
+    // Sort options accepted by getEmployeePage, mapped to entity attributes
+    private static final Map<String, String> SORT_ATTRIBUTES = Map.of(
+            "id", "id",
+            "firstName", "first_name",
+            "lastName", "last_name");
+
     public EmployeeResponseDTO addEmployee(EmployeeCreateDTO dto) {
         if (employeeRepository.existsByEmail(dto.getEmail())) {
             throw new EmployeeAlreadyExistsException("Employee with email " + dto.getEmail() + " already exists");
@@ -73,8 +125,7 @@ public class EmployeeService implements UserDetailsService {
         Department department = departmentRepository.findById(dto.getDepartment_id())
                 .orElseThrow(() -> new DepartmentNotFoundException("Department not found with id " + dto.getDepartment_id()));
 
-        int nextNum = Optional.ofNullable(employeeRepository.findMaxIdNumberByDepartment(department)).orElse(0) + 1;
-        String empId = department.getId() + nextNum;
+        String empId = employeeIdGenerator.nextId(department);
 
         String HashedPassword = passwordEncoder.encode(dto.getPassword()); //hash password
         int age = LocalDate.now().getYear() - (dto.getBirthday()).getYear();
@@ -84,14 +135,17 @@ public class EmployeeService implements UserDetailsService {
 
         //Save to DB
         Employee savedEmployee = employeeRepository.save(employee);
+        tableVersions.changedAfterCommit(TableVersions.Table.EMPLOYEE);
 
         //Convert Entity → DTO for response
         //This is not necessary, but it is a good practice to separate concerns.
-        return employeeMapper.toResponseDTO(savedEmployee);
+        EmployeeResponseDTO response = employeeMapper.toResponseDTO(savedEmployee);
+        TransactionCallbacks.afterCommit(() -> employeeSearchIndex.put(response));
+        return response;
     }
 
     public List<EmployeeResponseDTO> getAllEmployees() {
-        List<Employee> employees = employeeRepository.findAll();
+        List<Employee> employees = employeeRepository.findByDeletedAtIsNull();
         if (employees.isEmpty()) {
             throw new NoEmployeesFoundException("No employees found in the system" );
         }
@@ -100,16 +154,128 @@ public class EmployeeService implements UserDetailsService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * One page of employees using keyset pagination on (sort value, id): the cursor carries the
+     * last row of the previous page, so every page costs the same regardless of how deep it is.
+     */
+    public EmployeePageDTO getEmployeePage(String cursor, Integer size, String sort, String direction, String departmentId, Role role) {
+        int pageSize = size != null ? size : defaultPageSize;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + maxPageSize);
+        }
+        String sortAttribute = SORT_ATTRIBUTES.get(sort);
+        if (sortAttribute == null) {
+            throw new IllegalArgumentException("Unsupported sort: " + sort + ". Use one of " + SORT_ATTRIBUTES.keySet());
+        }
+        if (!direction.equalsIgnoreCase("asc") && !direction.equalsIgnoreCase("desc")) {
+            throw new IllegalArgumentException("Direction must be asc or desc");
+        }
+        boolean ascending = direction.equalsIgnoreCase("asc");
+
+        Specification<Employee> spec = Specification.where(EmployeeSpecifications.notDeleted())
+                .and(EmployeeSpecifications.inDepartment(departmentId))
+                .and(EmployeeSpecifications.hasRole(role));
+        if (cursor != null) {
+            String[] position = decodeCursor(cursor);
+            if (!position[0].equals(sort) || !position[1].equals(ascending ? "asc" : "desc")) {
+                throw new IllegalArgumentException("Cursor was issued for a different sort order");
+            }
+            spec = spec.and(EmployeeSpecifications.after(sortAttribute, position[3], position[2], ascending));
+        }
+
+        spec = spec.and(EmployeeSpecifications.orderedBy(sortAttribute, ascending));
+        // Fetch one extra row to know whether another page follows
+        List<Employee> employees = employeeRepository.findBy(spec, query -> query.limit(pageSize + 1).all());
+
+        boolean hasMore = employees.size() > pageSize;
+        if (hasMore) {
+            employees = employees.subList(0, pageSize);
+        }
+        EmployeePageDTO page = new EmployeePageDTO();
+        page.setItems(employees.stream()
+                .map(employeeMapper::toResponseDTO)
+                .collect(Collectors.toList()));
+        page.setSize(pageSize);
+        page.setHasMore(hasMore);
+        if (hasMore) {
+            Employee last = employees.get(employees.size() - 1);
+            String sortValue = switch (sortAttribute) {
+                case "first_name" -> last.getFirst_name();
+                case "last_name" -> last.getLast_name();
+                default -> last.getId();
+            };
+            page.setNextCursor(encodeCursor(sort, ascending ? "asc" : "desc", last.getId(), sortValue));
+        }
+        return page;
+    }
+
+    // Cursor = base64url("sort\ndirection\nid\nsortValue"), the sort value last so it may contain anything
+    private static String encodeCursor(String sort, String direction, String id, String sortValue) {
+        String raw = sort + "\n" + direction + "\n" + id + "\n" + sortValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\n", 4);
+            if (parts.length == 4) {
+                return parts;
+            }
+        } catch (IllegalArgumentException e) {
+            // fall through to the error below
+        }
+        throw new IllegalArgumentException("Invalid cursor");
+    }
+
+    /**
+     * Typeahead search over id, names, email, NIC and phone, answered from the in-memory index
+     * without touching the database. Every term of the query must match; results are ordered by id.
+     * Terms of three or more characters match anywhere in a field. Shorter terms match the start of
+     * a word (a run of letters and digits), so "an" finds "Anna" but not "Joanne", and a short term
+     * containing punctuation, such as "+9", matches nothing.
+     * @param page zero-based page number
+     */
+    public EmployeeSearchPageDTO searchEmployees(String query, Integer page, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be empty");
+        }
+        int pageNumber = page != null ? page : 0;
+        if (pageNumber < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        int pageSize = size != null ? size : defaultSearchSize;
+        if (pageSize < 1 || pageSize > maxSearchSize) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + maxSearchSize);
+        }
+        EmployeeSearchIndex.Page result = employeeSearchIndex.search(query, pageNumber, pageSize);
+
+        EmployeeSearchPageDTO dto = new EmployeeSearchPageDTO();
+        dto.setQuery(query);
+        dto.setPage(pageNumber);
+        dto.setSize(pageSize);
+        dto.setTotal(result.total());
+        dto.setItems(result.items());
+        return dto;
+    }
+
+    // Loads the search index from the active employees; run on startup
+    @Transactional(readOnly = true)
+    public void rebuildSearchIndex() {
+        employeeSearchIndex.rebuild(employeeRepository.findByDeletedAtIsNull().stream()
+                .map(employeeMapper::toResponseDTO)
+                .collect(Collectors.toList()));
+    }
+
     public EmployeeResponseDTO getEmployeeById(String id) {
-        Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + id));
+        Employee employee = findActiveEmployee(id);
         return employeeMapper.toResponseDTO(employee);
     }
 
     public List<EmployeeResponseDTO> getEmployeesByDepartmentId(String departmentId) {
-        departmentRepository.findById(departmentId)
-                .orElseThrow(() -> new DepartmentNotFoundException("Department not found with id: " + departmentId));
-        List<Employee> employees = employeeRepository.findByDepartment_Id(departmentId);
+        if (!departmentRepository.existsById(departmentId)) {
+            throw new DepartmentNotFoundException("Department not found with id: " + departmentId);
+        }
+        List<Employee> employees = employeeRepository.findByDepartment_IdAndDeletedAtIsNull(departmentId);
         if(employees.isEmpty()) {
             throw new NoEmployeesFoundException("No employees found in the department with id: " + departmentId);
         }
@@ -118,42 +284,86 @@ public class EmployeeService implements UserDetailsService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Deletes an employee with their salaries and attendance. In immediate mode the history goes in
+     * one set-based DELETE per table inside this transaction. In background mode the employee is only
+     * marked deleted here, which hides them and blocks their login at once, and the history is purged
+     * in small chunks after commit, so a long history does not hold locks for the whole request.
+     * @param mode "immediate" or "background", or null for the configured default
+     */
     @Transactional
-    public void deleteEmployee(String id) {
-        Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + id));
-        
-        // First, delete all salary records associated with this employee
-        List<Salary> salaries = salaryRepository.findByEmployee_Id(id);
-        if (!salaries.isEmpty()) {
-            salaryRepository.deleteAll(salaries);
+    public void deleteEmployee(String id, String mode) {
+        boolean background = isBackgroundDelete(mode);
+        Employee employee = findActiveEmployee(id);
+        String email = employee.getEmail();
+
+        if (background) {
+            employee.setDeletedAt(LocalDateTime.now());
+            employeeRepository.save(employee);
+            tableVersions.changedAfterCommit(TableVersions.Table.EMPLOYEE);
+            TransactionCallbacks.afterCommit(() -> {
+                principalCache.invalidate(email);
+                employeeSearchIndex.remove(id);
+                employeeHistoryPurger.purgeInBackground(id);
+            });
+            return;
         }
-        
-        // Second, delete all attendance records associated with this employee
-        List<Attendance> attendances = attendanceRepository.findByEmployee_Id(id);
-        if (!attendances.isEmpty()) {
-            attendanceRepository.deleteAll(attendances);
+
+        salaryRepository.deleteByEmployeeId(id);
+        int attendanceRows = attendanceRepository.deleteByEmployeeId(id) + attendanceArchiveRepository.deleteByEmployeeId(id);
+        if (attendanceRows > 0) {
+            monthlyAttendanceService.deleteForEmployee(id);
+            TransactionCallbacks.afterCommit(attendanceQueryCache::invalidateAll);
+            tableVersions.changedAfterCommit(TableVersions.Table.ATTENDANCE);
         }
-        
-        // Finally, delete the employee
+
         employeeRepository.delete(employee);
+        tableVersions.changedAfterCommit(TableVersions.Table.EMPLOYEE);
+        TransactionCallbacks.afterCommit(() -> {
+            principalCache.invalidate(email);
+            employeeSearchIndex.remove(id);
+        });
     }
 
-    public EmployeeResponseDTO updateEmployeeById(String id, EmployeeUpdateDTO dto) {
-        Employee employee = employeeRepository.findById(id)
+    private boolean isBackgroundDelete(String mode) {
+        String effective = mode != null ? mode : defaultDeleteMode;
+        if ("background".equalsIgnoreCase(effective)) {
+            return true;
+        }
+        if ("immediate".equalsIgnoreCase(effective)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Invalid delete mode: " + mode + ". Must be immediate or background");
+    }
+
+    // Employees marked deleted are waiting for their purge and count as gone
+    private Employee findActiveEmployee(String id) {
+        return employeeRepository.findById(id)
+                .filter(employee -> !employee.isDeleted())
                 .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + id));
+    }
+
+    @Transactional
+    public EmployeeResponseDTO updateEmployeeById(String id, EmployeeUpdateDTO dto) {
+        Employee employee = findActiveEmployee(id);
 
         if (dto.getPhone() != null) {
             employee.setPhone(dto.getPhone());
         }
         if (dto.getEmail() != null) {
+            // The email is the login name, so principals and tokens issued for the old one must go
+            String previousEmail = employee.getEmail();
             employee.setEmail(dto.getEmail());
+            TransactionCallbacks.afterCommit(() -> principalCache.invalidate(previousEmail));
         }
         if (dto.getAddress() != null) {
             employee.setAddress(dto.getAddress());
         }
         Employee updatedEmployee = employeeRepository.save(employee);
-        return employeeMapper.toResponseDTO(updatedEmployee);
+        tableVersions.changedAfterCommit(TableVersions.Table.EMPLOYEE);
+        EmployeeResponseDTO response = employeeMapper.toResponseDTO(updatedEmployee);
+        TransactionCallbacks.afterCommit(() -> employeeSearchIndex.put(response));
+        return response;
     }
 
     @Override
@@ -162,6 +372,21 @@ public class EmployeeService implements UserDetailsService {
                 .orElseThrow(() -> new EmployeeNotFoundException("User not found: " + email));
     }
 
+    /**
+     * Stores a rehashed password after a successful login whose stored hash used a different BCrypt
+     * strength than the configured one. The password itself is unchanged, so issued tokens stay valid.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Employee employee = employeeRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new EmployeeNotFoundException("User not found: " + user.getUsername()));
+        employee.setPassword(newPassword);
+        employeeRepository.save(employee);
+        TransactionCallbacks.afterCommit(() -> principalCache.evict(employee.getEmail()));
+        return employee;
+    }
+
     /**
      * Validates if the current authenticated user has permission to create an employee with the specified role.
      * Rules:
@@ -209,6 +434,7 @@ public class EmployeeService implements UserDetailsService {
     public void changeEmployeePassword(String employeeId, PasswordUpdateDTO passwordUpdateDTO) {
         // Find the employee
         Employee employee = employeeRepository.findById(employeeId)
+                .filter(e -> !e.isDeleted())
                 .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with ID: " + employeeId));
 
         // Verify current password
@@ -236,6 +462,7 @@ public class EmployeeService implements UserDetailsService {
         
         // Save the updated employee
         employeeRepository.save(employee);
+        TransactionCallbacks.afterCommit(() -> principalCache.invalidate(employee.getEmail()));
     }
 
 
@@ -0,0 +1,164 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.AttendanceExportRow;
+import com.example.demo.dto.SalaryExportRow;
+import com.example.demo.repository.ExportRowRepository;
+import com.example.demo.repository.TieredAttendanceRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes attendance and salary history straight from a streamed query to the response, one row at a
+ * time, so memory use stays flat however many rows are exported.
+ */
+@Service
+public class ExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final String ATTENDANCE_CSV_HEADER = "id,employee_id,department_id,date,status,overTimeHours";
+    private static final String SALARY_CSV_HEADER = "id,employee_id,department_id,startDate,endDate,baseSalary,"
+            + "daysPRESENT,daysLEAVE,daysHALF_DAY,daysNO_PAY,overTimeHours,overTimePay,bonus,deduction,totalSalary";
+
+    private final TieredAttendanceRepository tieredAttendanceRepository;
+    private final ExportRowRepository exportRowRepository;
+    private final ObjectWriter ndjsonWriter;
+
+    @Autowired
+    public ExportService(TieredAttendanceRepository tieredAttendanceRepository, ExportRowRepository exportRowRepository, ObjectMapper objectMapper) {
+        this.tieredAttendanceRepository = tieredAttendanceRepository;
+        this.exportRowRepository = exportRowRepository;
+        this.ndjsonWriter = objectMapper.writer()
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    public void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Start date and end date cannot be null");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date cannot be after end date");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void writeAttendance(OutputStream out, LocalDate startDate, LocalDate endDate, String departmentId, ExportFormat format) throws IOException {
+        try (Stream<AttendanceExportRow> rows = tieredAttendanceRepository.streamForExport(startDate, endDate, departmentId)) {
+            if (format == ExportFormat.NDJSON) {
+                writeNdjson(out, rows.iterator());
+                return;
+            }
+            Writer writer = csvWriter(out);
+            writer.write(ATTENDANCE_CSV_HEADER);
+            writer.write('\n');
+            for (Iterator<AttendanceExportRow> it = rows.iterator(); it.hasNext(); ) {
+                AttendanceExportRow row = it.next();
+                writer.write(String.valueOf(row.getId()));
+                writer.write(',');
+                writeCsvText(writer, row.getEmployee_id());
+                writer.write(',');
+                writeCsvText(writer, row.getDepartment_id());
+                writer.write(',');
+                writer.write(row.getDate().toString());
+                writer.write(',');
+                writer.write(row.getStatus().name());
+                writer.write(',');
+                writer.write(String.valueOf(row.getOverTimeHours()));
+                writer.write('\n');
+            }
+            writer.flush();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void writeSalaries(OutputStream out, LocalDate startDate, LocalDate endDate, ExportFormat format) throws IOException {
+        try (Stream<SalaryExportRow> rows = exportRowRepository.streamSalaries(startDate, endDate)) {
+            if (format == ExportFormat.NDJSON) {
+                writeNdjson(out, rows.iterator());
+                return;
+            }
+            Writer writer = csvWriter(out);
+            writer.write(SALARY_CSV_HEADER);
+            writer.write('\n');
+            for (Iterator<SalaryExportRow> it = rows.iterator(); it.hasNext(); ) {
+                SalaryExportRow row = it.next();
+                writer.write(String.valueOf(row.getId()));
+                writer.write(',');
+                writeCsvText(writer, row.getEmployee_id());
+                writer.write(',');
+                writeCsvText(writer, row.getDepartment_id());
+                writer.write(',');
+                writer.write(row.getStartDate().toString());
+                writer.write(',');
+                writer.write(row.getEndDate().toString());
+                writer.write(',');
+                writer.write(String.valueOf(row.getBaseSalary()));
+                writer.write(',');
+                writer.write(String.valueOf(row.getDaysPRESENT()));
+                writer.write(',');
+                writer.write(String.valueOf(row.getDaysLEAVE()));
+                writer.write(',');
+                writer.write(String.valueOf(row.getDaysHALF_DAY()));
+                writer.write(',');
+                writer.write(String.valueOf(row.getDaysNO_PAY()));
+                writer.write(',');
+                writer.write(String.valueOf(row.getOverTimeHours()));
+                writer.write(',');
+                writer.write(String.valueOf(row.getOverTimePay()));
+                writer.write(',');
+                writer.write(String.valueOf(row.getBonus()));
+                writer.write(',');
+                writer.write(String.valueOf(row.getDeduction()));
+                writer.write(',');
+                writer.write(String.valueOf(row.getTotalSalary()));
+                writer.write('\n');
+            }
+            writer.flush();
+        }
+    }
+
+    private void writeNdjson(OutputStream out, Iterator<?> rows) throws IOException {
+        try (SequenceWriter sequence = ndjsonWriter.writeValues(out)) {
+            while (rows.hasNext()) {
+                sequence.write(rows.next());
+            }
+        }
+        out.write('\n');
+    }
+
+    private static Writer csvWriter(OutputStream out) {
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+    }
+
+    // Quote a text field only when it contains a separator, quote or line break
+    private static void writeCsvText(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.AttendanceCreateDTO;
+import com.example.demo.dto.AttendanceMonthlyDelta;
+import com.example.demo.dto.EmployeeAttendanceAggregate;
+import com.example.demo.dto.EmployeeMonthlyTotals;
+import com.example.demo.model.Attendance;
+import com.example.demo.model.AttendanceMonthly;
+import com.example.demo.repository.AttendanceMonthlyJdbcRepository;
+import com.example.demo.repository.AttendanceMonthlyRepository;
+import com.example.demo.repository.TieredAttendanceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the attendance_monthly aggregate in step with the daily attendance rows and answers period
+ * totals from it. Whole calendar months of a period are read from the aggregate (one row per
+ * employee-month); only the partial months at either end of a period still scan daily rows.
+ * <p>
+ * The record* methods must run inside the transaction that writes the attendance rows, so the
+ * aggregate commits or rolls back together with them.
+ */
+@Service
+public class MonthlyAttendanceService {
+
+    private static final Logger log = LoggerFactory.getLogger(MonthlyAttendanceService.class);
+
+    private final AttendanceMonthlyRepository attendanceMonthlyRepository;
+    private final AttendanceMonthlyJdbcRepository attendanceMonthlyJdbcRepository;
+    private final TieredAttendanceRepository tieredAttendanceRepository;
+
+    @Autowired
+    public MonthlyAttendanceService(AttendanceMonthlyRepository attendanceMonthlyRepository, AttendanceMonthlyJdbcRepository attendanceMonthlyJdbcRepository,
+                                    TieredAttendanceRepository tieredAttendanceRepository) {
+        this.attendanceMonthlyRepository = attendanceMonthlyRepository;
+        this.attendanceMonthlyJdbcRepository = attendanceMonthlyJdbcRepository;
+        this.tieredAttendanceRepository = tieredAttendanceRepository;
+    }
+
+    public void recordCreated(String employeeId, LocalDate date, Attendance.AttendanceStatus status, double overTimeHours) {
+        AttendanceMonthlyDelta delta = new AttendanceMonthlyDelta(employeeId, monthKey(date));
+        delta.add(status, 1, overTimeHours);
+        attendanceMonthlyJdbcRepository.applyDeltas(List.of(delta));
+    }
+
+    public void recordCreated(List<AttendanceCreateDTO> rows) {
+        Map<String, AttendanceMonthlyDelta> deltas = new LinkedHashMap<>();
+        for (AttendanceCreateDTO row : rows) {
+            int month = monthKey(row.getDate());
+            deltas.computeIfAbsent(row.getEmployee_id() + '|' + month, key -> new AttendanceMonthlyDelta(row.getEmployee_id(), month))
+                    .add(row.getStatus(), 1, row.getOverTimeHours());
+        }
+        if (!deltas.isEmpty()) {
+            attendanceMonthlyJdbcRepository.applyDeltas(new ArrayList<>(deltas.values()));
+        }
+    }
+
+    // A status or overtime change moves the day from the old totals to the new ones
+    public void recordChanged(String employeeId, LocalDate date,
+                              Attendance.AttendanceStatus oldStatus, double oldOverTimeHours,
+                              Attendance.AttendanceStatus newStatus, double newOverTimeHours) {
+        AttendanceMonthlyDelta delta = new AttendanceMonthlyDelta(employeeId, monthKey(date));
+        delta.add(oldStatus, -1, -oldOverTimeHours);
+        delta.add(newStatus, 1, newOverTimeHours);
+        if (!delta.isEmpty()) {
+            attendanceMonthlyJdbcRepository.applyDeltas(List.of(delta));
+        }
+    }
+
+    public void deleteForEmployee(String employeeId) {
+        attendanceMonthlyRepository.deleteByEmployeeId(employeeId);
+    }
+
+    /**
+     * Regenerates the whole aggregate from the attendance table in one transaction. Needed after
+     * attendance is written outside AttendanceService (imports, manual fixes) and once to backfill
+     * existing data; see MonthlyAttendanceBackfill.
+     */
+    @Transactional
+    public int rebuild() {
+        long startedAt = System.currentTimeMillis();
+        int rows = attendanceMonthlyJdbcRepository.rebuild();
+        log.info("Rebuilt attendance_monthly: {} employee-months in {} ms", rows, System.currentTimeMillis() - startedAt);
+        return rows;
+    }
+
+    public boolean isMissing() {
+        return attendanceMonthlyJdbcRepository.isMissing();
+    }
+
+    public AttendanceTotals totalsForEmployee(String employeeId, LocalDate startDate, LocalDate endDate) {
+        PeriodSplit split = PeriodSplit.of(startDate, endDate);
+        AttendanceTotals totals = new AttendanceTotals();
+        if (split.hasWholeMonths()) {
+            attendanceMonthlyRepository.sumForEmployee(employeeId, split.fromMonth(), split.toMonth())
+                    .ifPresent(totals::add);
+        }
+        for (DateRange range : split.partialRanges()) {
+            tieredAttendanceRepository.countByStatusForEmployee(employeeId, range.start(), range.end())
+                    .forEach(count -> totals.add(count.getStatus(), count.getDays(), count.getOverTimeHours()));
+        }
+        return totals;
+    }
+
+    // Totals per employee id for the whole company, or one department when departmentId is set
+    public Map<String, AttendanceTotals> totalsByEmployee(LocalDate startDate, LocalDate endDate, String departmentId) {
+        PeriodSplit split = PeriodSplit.of(startDate, endDate);
+        Map<String, AttendanceTotals> totalsByEmployee = new HashMap<>();
+        if (split.hasWholeMonths()) {
+            for (EmployeeMonthlyTotals monthly : attendanceMonthlyRepository.sumByEmployee(split.fromMonth(), split.toMonth(), departmentId)) {
+                totalsByEmployee.computeIfAbsent(monthly.getEmployeeId(), id -> new AttendanceTotals()).add(monthly);
+            }
+        }
+        for (DateRange range : split.partialRanges()) {
+            List<EmployeeAttendanceAggregate> aggregates = departmentId == null
+                    ? tieredAttendanceRepository.aggregateByEmployeeAndStatus(range.start(), range.end())
+                    : tieredAttendanceRepository.aggregateByEmployeeAndStatusForDepartment(range.start(), range.end(), departmentId);
+            for (EmployeeAttendanceAggregate aggregate : aggregates) {
+                totalsByEmployee.computeIfAbsent(aggregate.getEmployeeId(), id -> new AttendanceTotals())
+                        .add(aggregate.getStatus(), aggregate.getDays(), aggregate.getOverTimeHours());
+            }
+        }
+        return totalsByEmployee;
+    }
+
+    private static int monthKey(LocalDate date) {
+        return AttendanceMonthly.monthKey(YearMonth.from(date));
+    }
+
+    record DateRange(LocalDate start, LocalDate end) {
+    }
+
+    // A period cut into the whole calendar months it covers and the partial months at either end
+    record PeriodSplit(YearMonth firstWholeMonth, YearMonth lastWholeMonth, List<DateRange> partialRanges) {
+
+        static PeriodSplit of(LocalDate startDate, LocalDate endDate) {
+            YearMonth first = YearMonth.from(startDate);
+            if (startDate.getDayOfMonth() != 1) {
+                first = first.plusMonths(1);
+            }
+            YearMonth last = YearMonth.from(endDate);
+            if (!endDate.equals(last.atEndOfMonth())) {
+                last = last.minusMonths(1);
+            }
+            if (first.isAfter(last)) {
+                return new PeriodSplit(first, last, List.of(new DateRange(startDate, endDate)));
+            }
+            List<DateRange> partial = new ArrayList<>(2);
+            if (startDate.isBefore(first.atDay(1))) {
+                partial.add(new DateRange(startDate, first.atDay(1).minusDays(1)));
+            }
+            if (endDate.isAfter(last.atEndOfMonth())) {
+                partial.add(new DateRange(last.atEndOfMonth().plusDays(1), endDate));
+            }
+            return new PeriodSplit(first, last, partial);
+        }
+
+        boolean hasWholeMonths() {
+            return !firstWholeMonth.isAfter(lastWholeMonth);
+        }
+
+        int fromMonth() {
+            return AttendanceMonthly.monthKey(firstWholeMonth);
+        }
+
+        int toMonth() {
+            return AttendanceMonthly.monthKey(lastWholeMonth);
+        }
+    }
+}
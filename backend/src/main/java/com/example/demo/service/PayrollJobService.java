@@ -0,0 +1,302 @@
+package com.example.demo.service;
+
+import com.example.demo.Config.PayrollJobWorkers;
+import com.example.demo.dto.PayrollJobDTO;
+import com.example.demo.dto.PayrollRunRequestDTO;
+import com.example.demo.exception.PayrollJobConflictException;
+import com.example.demo.exception.PayrollJobNotFoundException;
+import com.example.demo.exception.PayrollJobQueueFullException;
+import com.example.demo.mapper.PayrollJobMapper;
+import com.example.demo.model.Employee;
+import com.example.demo.model.PayrollJob;
+import com.example.demo.model.PayrollJobError;
+import com.example.demo.model.PayrollPeriodLock;
+import com.example.demo.model.Salary;
+import com.example.demo.repository.PayrollJobErrorRepository;
+import com.example.demo.repository.PayrollJobRepository;
+import com.example.demo.repository.PayrollPeriodLockRepository;
+import com.example.demo.repository.SalaryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Payroll runs as background jobs. A submitted job is stored as QUEUED and handed to the payroll job
+ * workers; the worker pays the employees in scope chunk by chunk. Each chunk's salaries, error
+ * records and job counters commit in one transaction, so a job interrupted by a restart is resumed
+ * from the salaries already stored: employees paid for the period are skipped, never paid twice.
+ * The unique (employee, period) key on salary keeps that true against a concurrent /payroll-run.
+ * <p>
+ * Recovery assumes a single application instance: every job still QUEUED or RUNNING at startup
+ * is considered orphaned and resubmitted.
+ */
+@Service
+public class PayrollJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(PayrollJobService.class);
+
+    private static final List<PayrollJob.Status> UNFINISHED = List.of(PayrollJob.Status.QUEUED, PayrollJob.Status.RUNNING);
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+
+    private final PayrollJobRepository payrollJobRepository;
+    private final PayrollJobErrorRepository payrollJobErrorRepository;
+    private final PayrollPeriodLockRepository payrollPeriodLockRepository;
+    private final SalaryRepository salaryRepository;
+    private final SalaryService salaryService;
+    private final MonthlyAttendanceService monthlyAttendanceService;
+    private final PayrollJobMapper payrollJobMapper;
+    private final PayrollJobWorkers payrollJobWorkers;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    @Autowired
+    public PayrollJobService(PayrollJobRepository payrollJobRepository, PayrollJobErrorRepository payrollJobErrorRepository,
+                             PayrollPeriodLockRepository payrollPeriodLockRepository, SalaryRepository salaryRepository,
+                             SalaryService salaryService, MonthlyAttendanceService monthlyAttendanceService, PayrollJobMapper payrollJobMapper,
+                             PayrollJobWorkers payrollJobWorkers, PlatformTransactionManager transactionManager,
+                             @Value("${payroll.jobs.chunk-size:200}") int chunkSize,
+                             @Value("${payroll.jobs.max-reported-errors:100}") int maxReportedErrors) {
+        this.payrollJobRepository = payrollJobRepository;
+        this.payrollJobErrorRepository = payrollJobErrorRepository;
+        this.payrollPeriodLockRepository = payrollPeriodLockRepository;
+        this.salaryRepository = salaryRepository;
+        this.salaryService = salaryService;
+        this.monthlyAttendanceService = monthlyAttendanceService;
+        this.payrollJobMapper = payrollJobMapper;
+        this.payrollJobWorkers = payrollJobWorkers;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public PayrollJobDTO submit(PayrollRunRequestDTO dto) {
+        salaryService.validatePayrollRequest(dto);
+        PayrollJob job;
+        try {
+            job = transactionTemplate.execute(status -> queue(dto));
+        } catch (DataIntegrityViolationException e) {
+            // Another submission created the period's lock row at the same time; it exists now
+            job = transactionTemplate.execute(status -> queue(dto));
+        }
+        try {
+            dispatch(job.getId());
+        } catch (RejectedExecutionException e) {
+            markFailed(job.getId(), "Rejected: the payroll job queue is full");
+            throw new PayrollJobQueueFullException("Too many payroll jobs are queued, please retry later");
+        }
+        return payrollJobMapper.toDTO(job, List.of());
+    }
+
+    /**
+     * Stores the job unless an unfinished one overlaps it. Submissions for the same period first lock
+     * the period's row, so the overlap check and the insert of one commit before the next checks;
+     * the lock covers the whole period because a company-wide job overlaps every department.
+     */
+    private PayrollJob queue(PayrollRunRequestDTO dto) {
+        String period = PayrollPeriodLock.key(dto.getStartDate(), dto.getEndDate());
+        if (payrollPeriodLockRepository.findForUpdate(period).isEmpty()) {
+            payrollPeriodLockRepository.saveAndFlush(new PayrollPeriodLock(period));
+        }
+        // Two unfinished jobs over the same employees and period would both see them as unpaid
+        if (payrollJobRepository.existsOverlapping(UNFINISHED, dto.getStartDate(), dto.getEndDate(), dto.getDepartment_id())) {
+            throw new PayrollJobConflictException("A payroll job for this period and scope is already queued or running");
+        }
+        return payrollJobRepository.save(payrollJobMapper.toEntity(dto));
+    }
+
+    public PayrollJobDTO getJob(Long id) {
+        PayrollJob job = payrollJobRepository.findById(id)
+                .orElseThrow(() -> new PayrollJobNotFoundException("Payroll job not found with id: " + id));
+        List<PayrollJobError> errors = job.getFailed() == 0
+                ? List.of()
+                : payrollJobErrorRepository.findByJob_IdOrderByIdAsc(id, PageRequest.of(0, maxReportedErrors));
+        return payrollJobMapper.toDTO(job, errors);
+    }
+
+    // Resubmits the jobs a previous run of the application left unfinished
+    public void resumeUnfinished() {
+        for (PayrollJob job : payrollJobRepository.findByStatusInOrderByIdAsc(UNFINISHED)) {
+            try {
+                dispatch(job.getId());
+                log.info("Resuming payroll job {} ({} of {} employees processed)", job.getId(), job.getProcessed(), job.getEmployeesInScope());
+            } catch (RejectedExecutionException e) {
+                log.warn("Payroll job {} could not be resumed, the job queue is full", job.getId());
+                markFailed(job.getId(), "Rejected on resume: the payroll job queue is full");
+            }
+        }
+    }
+
+    private void dispatch(Long jobId) {
+        payrollJobWorkers.execute(() -> run(jobId));
+    }
+
+    private void run(Long jobId) {
+        try {
+            execute(jobId);
+        } catch (RuntimeException e) {
+            // An interrupt during a chunk mostly surfaces as a JDBC or pool exception rather than at the
+            // isInterrupted() check; the chunk rolled back and the job must stay RUNNING to be resumed
+            if (Thread.currentThread().isInterrupted() || payrollJobWorkers.isShuttingDown()) {
+                log.info("Payroll job {} stopped by shutdown, it is resumed on the next start", jobId);
+                return;
+            }
+            log.error("Payroll job {} failed", jobId, e);
+            markFailed(jobId, describe(e));
+        }
+    }
+
+    private void execute(Long jobId) {
+        JobScope scope = transactionTemplate.execute(status -> start(jobId));
+        if (scope == null) {
+            return;
+        }
+        List<Employee> pending = scope.pending();
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            if (Thread.currentThread().isInterrupted()) {
+                // Shutting down; the job stays RUNNING and is resumed on the next start
+                return;
+            }
+            List<Employee> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+            payChunkSkippingPaid(jobId, chunk, scope);
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            PayrollJob job = payrollJobRepository.findById(jobId).orElseThrow();
+            job.setStatus(PayrollJob.Status.COMPLETED);
+            job.setFinishedAt(LocalDateTime.now());
+        });
+    }
+
+    /**
+     * Moves the job to RUNNING and works out what is left to do. Employees already paid for the
+     * period count as processed; those that failed on an earlier attempt are retried.
+     */
+    private JobScope start(Long jobId) {
+        PayrollJob job = payrollJobRepository.findById(jobId).orElse(null);
+        if (job == null || !UNFINISHED.contains(job.getStatus())) {
+            return null;
+        }
+        if (job.getStatus() == PayrollJob.Status.RUNNING) {
+            job.setResumed(job.getResumed() + 1);
+        }
+        if (job.getFailed() > 0) {
+            payrollJobErrorRepository.deleteByJobId(jobId);
+        }
+        PayrollRunRequestDTO request = payrollJobMapper.toRunRequest(job);
+        List<Employee> employees = salaryService.findEmployeesInScope(job.getDepartmentId());
+        Map<String, AttendanceTotals> totalsByEmployee = monthlyAttendanceService.totalsByEmployee(job.getStartDate(), job.getEndDate(), job.getDepartmentId());
+        Set<String> alreadyPaid = new HashSet<>(salaryRepository.findEmployeeIdsWithSalaryForPeriod(job.getStartDate(), job.getEndDate()));
+        List<Employee> pending = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            if (!alreadyPaid.contains(employee.getId())) {
+                pending.add(employee);
+            }
+        }
+        int paid = employees.size() - pending.size();
+
+        job.setStatus(PayrollJob.Status.RUNNING);
+        if (job.getStartedAt() == null) {
+            job.setStartedAt(LocalDateTime.now());
+        }
+        job.setEmployeesInScope(employees.size());
+        job.setProcessed(paid);
+        // Salaries this job stored before an interruption are part of the paid employees, not skips
+        job.setSkippedExisting(Math.max(0, paid - job.getSalariesCreated()));
+        job.setFailed(0);
+        return new JobScope(request, pending, totalsByEmployee);
+    }
+
+    /**
+     * Pays a chunk in one transaction. A salary stored meanwhile by /payroll-run or createSalary breaks
+     * the unique (employee, period) key and rolls the chunk back; it is then retried without the
+     * employees paid in the meantime, who count as processed and skipped.
+     */
+    private void payChunkSkippingPaid(Long jobId, List<Employee> chunk, JobScope scope) {
+        List<Employee> remaining = chunk;
+        int paidMeanwhile = 0;
+        while (true) {
+            List<Employee> toPay = remaining;
+            int skipped = paidMeanwhile;
+            try {
+                transactionTemplate.executeWithoutResult(status -> payChunk(jobId, toPay, skipped, scope));
+                return;
+            } catch (DataIntegrityViolationException e) {
+                if (!SalaryService.isDuplicateSalary(e)) {
+                    throw e;
+                }
+                Set<String> paid = new HashSet<>(salaryRepository.findEmployeeIdsWithSalaryForPeriod(
+                        scope.request().getStartDate(), scope.request().getEndDate()));
+                List<Employee> unpaid = remaining.stream().filter(employee -> !paid.contains(employee.getId())).toList();
+                if (unpaid.size() == remaining.size()) {
+                    throw e;
+                }
+                paidMeanwhile += remaining.size() - unpaid.size();
+                remaining = unpaid;
+            }
+        }
+    }
+
+    private void payChunk(Long jobId, List<Employee> chunk, int paidMeanwhile, JobScope scope) {
+        PayrollJob job = payrollJobRepository.findById(jobId).orElseThrow();
+        List<Salary> salaries = new ArrayList<>(chunk.size());
+        List<PayrollJobError> errors = new ArrayList<>();
+        long payout = 0;
+        for (Employee employee : chunk) {
+            try {
+                Salary salary = salaryService.buildPayrollSalary(employee, scope.totalsByEmployee(), scope.request());
+                salaries.add(salary);
+                payout += salary.getTotalSalary();
+            } catch (RuntimeException e) {
+                errors.add(error(job, employee.getId(), e));
+            }
+        }
+        salaryRepository.saveAll(salaries);
+        if (!errors.isEmpty()) {
+            payrollJobErrorRepository.saveAll(errors);
+        }
+        job.setProcessed(job.getProcessed() + chunk.size() + paidMeanwhile);
+        job.setSkippedExisting(job.getSkippedExisting() + paidMeanwhile);
+        job.setSalariesCreated(job.getSalariesCreated() + salaries.size());
+        job.setFailed(job.getFailed() + errors.size());
+        job.setTotalPayout(job.getTotalPayout() + payout);
+    }
+
+    private void markFailed(Long jobId, String message) {
+        transactionTemplate.executeWithoutResult(status -> payrollJobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(PayrollJob.Status.FAILED);
+            job.setError(message);
+            job.setFinishedAt(LocalDateTime.now());
+        }));
+    }
+
+    private static PayrollJobError error(PayrollJob job, String employeeId, RuntimeException e) {
+        PayrollJobError error = new PayrollJobError();
+        error.setJob(job);
+        error.setEmployeeId(employeeId);
+        error.setMessage(describe(e));
+        error.setOccurredAt(LocalDateTime.now());
+        return error;
+    }
+
+    private static String describe(RuntimeException e) {
+        String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+        return message.length() > MAX_MESSAGE_LENGTH ? message.substring(0, MAX_MESSAGE_LENGTH) : message;
+    }
+
+    private record JobScope(PayrollRunRequestDTO request, List<Employee> pending, Map<String, AttendanceTotals> totalsByEmployee) {
+    }
+}
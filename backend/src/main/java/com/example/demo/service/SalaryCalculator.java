@@ -0,0 +1,32 @@
+package com.example.demo.service;
+
+import com.example.demo.model.Department;
+import com.example.demo.model.Salary;
+import org.springframework.stereotype.Component;
+
+/**
+ * The salary arithmetic: overtime pay from the department's rate, deductions for no-pay and
+ * half days, and the resulting total. Shared by single salary creation and payroll runs.
+ */
+@Component
+public class SalaryCalculator {
+
+    static final long NO_PAY_DEDUCTION = 2500L;
+    static final long HALF_DAY_DEDUCTION = 1200L;
+
+    public void apply(Salary salary, Department department, AttendanceTotals totals, long bonus) {
+        long overTimePay = (long) (totals.getOverTimeHours() * department.getOverTimeRate());
+        long deduction = (totals.getDaysNoPay() * NO_PAY_DEDUCTION) + (totals.getDaysHalfDay() * HALF_DAY_DEDUCTION);
+        long totalSalary = department.getSalary() - deduction + overTimePay + bonus;
+        salary.setDeduction(deduction);
+        salary.setBonus(bonus);
+        salary.setOverTimePay(overTimePay);
+        salary.setTotalSalary(totalSalary);
+        salary.setDaysPresent(totals.getDaysPresent());
+        salary.setDaysLeave(totals.getDaysLeave());
+        salary.setDaysNoPay(totals.getDaysNoPay());
+        salary.setDaysHalfDay(totals.getDaysHalfDay());
+        salary.setOverTimeHours(totals.getOverTimeHours());
+        salary.setBaseSalary(department.getSalary());
+    }
+}
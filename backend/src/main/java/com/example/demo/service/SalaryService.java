@@ -1,99 +1,229 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.PayrollRunRequestDTO;
+import com.example.demo.dto.PayrollRunSummaryDTO;
 import com.example.demo.dto.SalaryCreateDTO;
 import com.example.demo.dto.SalaryResponseDTO;
 import com.example.demo.exception.DepartmentNotFoundException;
 import com.example.demo.exception.EmployeeNotFoundException;
+import com.example.demo.exception.SalaryAlreadyExistsException;
 import com.example.demo.exception.SalaryNotFoundException;
 import com.example.demo.mapper.SalaryMapper;
-import com.example.demo.model.Attendance;
 import com.example.demo.model.Department;
 import com.example.demo.model.Employee;
 import com.example.demo.model.Salary;
-import com.example.demo.repository.AttendanceRepository;
 import com.example.demo.repository.DepartmentRepository;
 import com.example.demo.repository.EmployeeRepository;
 import com.example.demo.repository.SalaryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class SalaryService {
-    private final AttendanceRepository attendanceRepository;
     private final EmployeeRepository employeeRepository;
     private final DepartmentRepository departmentRepository;
     private final SalaryMapper salaryMapper;
     private final SalaryRepository salaryRepository;
+    private final SalaryCalculator salaryCalculator;
+    private final MonthlyAttendanceService monthlyAttendanceService;
+    private final TransactionTemplate transactionTemplate;
+    private final int payrollChunkSize;
+    private final Timer createSalaryTimer;
+    private final Timer payrollRunTimer;
 
     @Autowired
-    public SalaryService(AttendanceRepository attendanceRepository, EmployeeRepository employeeRepository, DepartmentRepository departmentRepository, SalaryMapper salaryMapper, SalaryRepository salaryRepository) {
-        this.attendanceRepository = attendanceRepository;
+    public SalaryService(EmployeeRepository employeeRepository, DepartmentRepository departmentRepository, SalaryMapper salaryMapper, SalaryRepository salaryRepository,
+                         SalaryCalculator salaryCalculator, MonthlyAttendanceService monthlyAttendanceService, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry, @Value("${payroll.run.chunk-size:500}") int payrollChunkSize) {
         this.employeeRepository = employeeRepository;
         this.departmentRepository = departmentRepository;
         this.salaryMapper = salaryMapper;
         this.salaryRepository = salaryRepository;
+        this.salaryCalculator = salaryCalculator;
+        this.monthlyAttendanceService = monthlyAttendanceService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.payrollChunkSize = payrollChunkSize;
+        this.createSalaryTimer = Timer.builder("ems.salary.create")
+                .description("Time to compute and store a single salary")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.payrollRunTimer = Timer.builder("ems.payroll.run")
+                .description("Time to run payroll for a period")
+                .register(meterRegistry);
     }
 
     public SalaryResponseDTO createSalary(SalaryCreateDTO dto) {
+        return createSalaryTimer.record(() -> computeAndSaveSalary(dto));
+    }
+
+    private SalaryResponseDTO computeAndSaveSalary(SalaryCreateDTO dto) {
         Employee employee = employeeRepository.findById(dto.getEmployee_id())
+                .filter(e -> !e.isDeleted())
                 .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + dto.getEmployee_id()));
         Department department = departmentRepository.findById(dto.getDepartment_id())
                 .orElseThrow(() -> new DepartmentNotFoundException("Department not found with id: " + dto.getDepartment_id()));
         Salary salary = salaryMapper.toEntity(dto, employee, department);
         String employee_id = dto.getEmployee_id(); // Use the actual ID
 
-        int daysPRESENT = attendanceRepository.findByEmployee_IdAndDateBetweenAndStatus(employee_id, dto.getStartDate(), dto.getEndDate(), Attendance.AttendanceStatus.valueOf("PRESENT")).size();
-        int daysLEAVE = attendanceRepository.findByEmployee_IdAndDateBetweenAndStatus(employee_id, dto.getStartDate(), dto.getEndDate(), Attendance.AttendanceStatus.valueOf("LEAVE")).size();
-        int daysNO_PAY = attendanceRepository.findByEmployee_IdAndDateBetweenAndStatus(employee_id, dto.getStartDate(), dto.getEndDate(), Attendance.AttendanceStatus.valueOf("NO_PAY")).size();
-        int daysHALF_DAY = attendanceRepository.findByEmployee_IdAndDateBetweenAndStatus(employee_id, dto.getStartDate(), dto.getEndDate(), Attendance.AttendanceStatus.valueOf("HALF_DAY")).size();
-        double overTimeHours = attendanceRepository.findByEmployee_IdAndDateBetween(employee_id, dto.getStartDate(), dto.getEndDate())
-                .stream()
-                .mapToDouble(Attendance::getOverTimeHours)
-                .sum();
-        long overTimePay = (long) (overTimeHours * department.getOverTimeRate());
-        long deduction = (daysNO_PAY * 2500L) + (daysHALF_DAY * 1200L);
-        long totalSalary = (long) (department.getSalary() - deduction + overTimePay + dto.getBonus());
-        salary.setDeduction(deduction);
-        salary.setBonus(dto.getBonus());
-        salary.setOverTimePay(overTimePay);
-        salary.setTotalSalary(totalSalary);
-        salary.setDaysPresent(daysPRESENT);
-        salary.setDaysLeave(daysLEAVE);
-        salary.setDaysNoPay(daysNO_PAY);
-        salary.setDaysHalfDay(daysHALF_DAY);
-        salary.setOverTimeHours(overTimeHours);
-        salary.setBaseSalary(department.getSalary());
-        Salary savedSalary = salaryRepository.save(salary);
-        return salaryMapper.toResponseDTO(savedSalary, employee, department);
+        AttendanceTotals totals = monthlyAttendanceService.totalsForEmployee(employee_id, dto.getStartDate(), dto.getEndDate());
+        salaryCalculator.apply(salary, department, totals, dto.getBonus());
+        try {
+            Salary savedSalary = salaryRepository.save(salary);
+            return salaryMapper.toResponseDTO(savedSalary, employee, department);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateSalary(e)) {
+                throw new SalaryAlreadyExistsException("Salary already exists for employee id: " + employee_id
+                        + " from " + dto.getStartDate() + " to " + dto.getEndDate());
+            }
+            throw e;
+        }
+    }
+
+    // Shared with PayrollJobService
+    static boolean isDuplicateSalary(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase().contains(Salary.UNIQUE_EMPLOYEE_PERIOD);
+    }
+
+    /**
+     * Creates the salaries of every employee in the company, or in one department, for a pay period.
+     * Attendance totals for the whole scope come from the monthly aggregate and the salaries are inserted
+     * in chunks, each chunk in its own transaction. Employees who already have a salary for exactly
+     * this period are skipped, so a run can be repeated safely, also while a payroll job or another
+     * run covers the same employees: the unique (employee, period) key decides who stores a salary.
+     */
+    public PayrollRunSummaryDTO runPayroll(PayrollRunRequestDTO dto) {
+        return payrollRunTimer.record(() -> executePayrollRun(dto));
+    }
+
+    private PayrollRunSummaryDTO executePayrollRun(PayrollRunRequestDTO dto) {
+        validatePayrollRequest(dto);
+        LocalDate startDate = dto.getStartDate();
+        LocalDate endDate = dto.getEndDate();
+        long startedAt = System.currentTimeMillis();
+
+        List<Employee> employees = findEmployeesInScope(dto.getDepartment_id());
+        Map<String, AttendanceTotals> totalsByEmployee = monthlyAttendanceService.totalsByEmployee(startDate, endDate, dto.getDepartment_id());
+        Set<String> alreadyPaid = new HashSet<>(salaryRepository.findEmployeeIdsWithSalaryForPeriod(startDate, endDate));
+
+        List<Salary> saved = new ArrayList<>();
+        List<Salary> chunk = new ArrayList<>(payrollChunkSize);
+        for (Employee employee : employees) {
+            if (alreadyPaid.contains(employee.getId())) {
+                continue;
+            }
+            chunk.add(buildPayrollSalary(employee, totalsByEmployee, dto));
+            if (chunk.size() >= payrollChunkSize) {
+                saved.addAll(saveChunk(chunk, startDate, endDate));
+                chunk = new ArrayList<>(payrollChunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saved.addAll(saveChunk(chunk, startDate, endDate));
+        }
+        int created = saved.size();
+        int skipped = employees.size() - created;
+        long totalPayout = saved.stream().mapToLong(Salary::getTotalSalary).sum();
+
+        PayrollRunSummaryDTO summary = new PayrollRunSummaryDTO();
+        summary.setStartDate(startDate);
+        summary.setEndDate(endDate);
+        summary.setDepartment_id(dto.getDepartment_id());
+        summary.setEmployeesInScope(employees.size());
+        summary.setSalariesCreated(created);
+        summary.setSkippedExisting(skipped);
+        summary.setTotalPayout(totalPayout);
+        summary.setDurationMs(System.currentTimeMillis() - startedAt);
+        return summary;
+    }
+
+    // Shared with PayrollJobService, which runs the same computation as a background job
+    void validatePayrollRequest(PayrollRunRequestDTO dto) {
+        if (dto.getStartDate() == null || dto.getEndDate() == null) {
+            throw new IllegalArgumentException("Start date and end date cannot be null");
+        }
+        if (dto.getStartDate().isAfter(dto.getEndDate())) {
+            throw new IllegalArgumentException("Start date cannot be after end date");
+        }
+        if (dto.getDepartment_id() != null && !departmentRepository.existsById(dto.getDepartment_id())) {
+            throw new DepartmentNotFoundException("Department not found with id: " + dto.getDepartment_id());
+        }
+    }
+
+    // Employees of the whole company, or of one department, with their departments loaded
+    List<Employee> findEmployeesInScope(String departmentId) {
+        return departmentId == null
+                ? employeeRepository.findAllWithDepartment()
+                : employeeRepository.findByDepartmentIdWithDepartment(departmentId);
+    }
+
+    Salary buildPayrollSalary(Employee employee, Map<String, AttendanceTotals> totalsByEmployee, PayrollRunRequestDTO dto) {
+        Department department = employee.getDepartment();
+        Salary salary = salaryMapper.toEntity(employee, department, dto.getStartDate(), dto.getEndDate(), dto.getBonus());
+        salaryCalculator.apply(salary, department, totalsByEmployee.getOrDefault(employee.getId(), new AttendanceTotals()), dto.getBonus());
+        return salary;
+    }
+
+    /**
+     * Stores a chunk of salaries and returns those stored. A salary stored meanwhile by a payroll job or
+     * another run breaks the unique (employee, period) key and rolls the chunk back; the chunk is then
+     * retried without the employees paid in the meantime, who count as skipped.
+     */
+    private List<Salary> saveChunk(List<Salary> chunk, LocalDate startDate, LocalDate endDate) {
+        List<Salary> remaining = chunk;
+        while (true) {
+            List<Salary> toSave = remaining;
+            try {
+                transactionTemplate.executeWithoutResult(status -> salaryRepository.saveAll(toSave));
+                return toSave;
+            } catch (DataIntegrityViolationException e) {
+                if (!isDuplicateSalary(e)) {
+                    throw e;
+                }
+                Set<String> paid = new HashSet<>(salaryRepository.findEmployeeIdsWithSalaryForPeriod(startDate, endDate));
+                List<Salary> unpaid = remaining.stream()
+                        .filter(salary -> !paid.contains(salary.getEmployee().getId()))
+                        .collect(Collectors.toList());
+                if (unpaid.size() == remaining.size()) {
+                    throw e;
+                }
+                // Rows inserted before the violation were rolled back, but their entities kept the identity values
+                unpaid.forEach(salary -> salary.setId(null));
+                remaining = unpaid;
+            }
+        }
     }
 
     public SalaryResponseDTO getSalaryById(long id) {
-        Salary salary = salaryRepository.findById(id)
+        Salary salary = salaryRepository.findWithDepartmentById(id)
                 .orElseThrow(() -> new SalaryNotFoundException("Salary not found with id: " + id));
-        Employee employee = employeeRepository.findById(salary.getEmployee().getId())
-                .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + salary.getEmployee().getId()));
-        Department department = departmentRepository.findById(salary.getDepartment().getId())
-                .orElseThrow(() -> new DepartmentNotFoundException("Department not found with id: " + salary.getDepartment().getId()));
-
-        return salaryMapper.toResponseDTO(salary, employee, department);
+        // Only the employee id is needed, which the lazy reference already holds
+        return salaryMapper.toResponseDTO(salary, salary.getEmployee(), salary.getDepartment());
     }
 
     public List<SalaryResponseDTO> getSalaryByEmployeeId(String id) {
-        Employee employee = employeeRepository.findById(id)
-                        .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + id));
-        List<Salary> salaries = salaryRepository.findByEmployee_Id(id);
+        if (!employeeRepository.existsByIdAndDeletedAtIsNull(id)) {
+                throw new EmployeeNotFoundException("Employee not found with id: " + id);
+        }
+        List<Salary> salaries = salaryRepository.findWithDepartmentByEmployee_Id(id);
         if (salaries.isEmpty()) {
                 throw new SalaryNotFoundException("No salaries found for employee with id: " + id);
         }
         return salaries.stream()
-                        .map(salary -> {
-                                Department department = departmentRepository.findById(salary.getDepartment().getId())
-                                        .orElseThrow(() -> new DepartmentNotFoundException("Department not found with id: " + salary.getDepartment().getId()));
-                                return salaryMapper.toResponseDTO(salary, employee, department);
-                        })
+                        .map(salary -> salaryMapper.toResponseDTO(salary, salary.getEmployee(), salary.getDepartment()))
                         .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,49 @@
+package com.example.demo.service;
+
+import com.example.demo.Util.TransactionCallbacks;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Change counters for the tables behind the polled list endpoints, used as their ETags. Writers
+ * bump a table's counter after commit; readers take the tag before running their query, so a
+ * response is never labelled with a newer version than the data it holds. A conditional GET whose
+ * tag is still current is answered with 304 without touching the database.
+ * <p>
+ * Counters live in memory, like the other caches here, and start over with a new epoch on restart.
+ */
+@Component
+public class TableVersions {
+
+    public enum Table {
+        DEPARTMENT,
+        EMPLOYEE,
+        ATTENDANCE
+    }
+
+    // Differs per start, so tags issued by an earlier run never match
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Table, AtomicLong> versions = new EnumMap<>(Table.class);
+
+    public TableVersions() {
+        for (Table table : Table.values()) {
+            versions.put(table, new AtomicLong());
+        }
+    }
+
+    public void changed(Table table) {
+        versions.get(table).incrementAndGet();
+    }
+
+    public void changedAfterCommit(Table table) {
+        TransactionCallbacks.afterCommit(() -> changed(table));
+    }
+
+    // Quoted strong ETag, e.g. "employee-m1x2y3-17"
+    public String etag(Table table) {
+        return "\"" + table.name().toLowerCase() + '-' + epoch + '-' + versions.get(table).get() + "\"";
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.demo.Config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConnectionLimitingDataSourceTests {
+
+	// Stands in for a driver's own connection interface, such as MySQL's JdbcConnection
+	interface VendorConnection extends Connection {
+	}
+
+	private DataSource target;
+	private ConnectionLimitingDataSource dataSource;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		target = mock(DataSource.class);
+		when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+		dataSource = new ConnectionLimitingDataSource(target, 2, Duration.ofMillis(50));
+	}
+
+	@Test
+	void acquireTimesOutWhileAllPermitsAreHeld() throws SQLException {
+		Connection first = dataSource.getConnection();
+		dataSource.getConnection();
+
+		long startedAt = System.nanoTime();
+		assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+		assertTrue(System.nanoTime() - startedAt >= Duration.ofMillis(50).toNanos());
+
+		first.close();
+		dataSource.getConnection();
+		assertEquals(0, dataSource.getAvailablePermits());
+	}
+
+	@Test
+	void closeReturnsThePermitOnce() throws SQLException {
+		Connection connection = dataSource.getConnection();
+		assertEquals(1, dataSource.getAvailablePermits());
+
+		connection.close();
+		connection.close();
+		assertEquals(2, dataSource.getAvailablePermits());
+	}
+
+	@Test
+	void failedGetConnectionReturnsThePermit() throws SQLException {
+		when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+		assertThrows(SQLException.class, dataSource::getConnection);
+		assertEquals(2, dataSource.getAvailablePermits());
+	}
+
+	@Test
+	void unwrappingToConnectionKeepsTheProxy() throws SQLException {
+		Connection connection = dataSource.getConnection();
+
+		assertTrue(connection.isWrapperFor(Connection.class));
+		Connection unwrapped = connection.unwrap(Connection.class);
+		assertSame(connection, unwrapped);
+
+		unwrapped.close();
+		assertEquals(2, dataSource.getAvailablePermits());
+	}
+
+	@Test
+	void closingAnUnwrappedVendorConnectionReturnsThePermit() throws SQLException {
+		Connection pooled = mock(Connection.class);
+		VendorConnection physical = mock(VendorConnection.class);
+		when(pooled.isWrapperFor(VendorConnection.class)).thenReturn(true);
+		when(pooled.unwrap(VendorConnection.class)).thenReturn(physical);
+		when(target.getConnection()).thenReturn(pooled);
+
+		Connection connection = dataSource.getConnection();
+		assertTrue(connection.isWrapperFor(VendorConnection.class));
+		VendorConnection unwrapped = connection.unwrap(VendorConnection.class);
+		unwrapped.close();
+
+		verify(physical).close();
+		assertEquals(2, dataSource.getAvailablePermits());
+
+		// Closing the pooled connection afterwards does not return a second permit
+		connection.close();
+		assertEquals(2, dataSource.getAvailablePermits());
+	}
+}
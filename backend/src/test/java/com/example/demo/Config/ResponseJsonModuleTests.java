@@ -0,0 +1,103 @@
+package com.example.demo.Config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.demo.dto.AttendanceResponseDTO;
+import com.example.demo.dto.EmployeeResponseDTO;
+import com.example.demo.dto.SalaryResponseDTO;
+import com.example.demo.model.Role;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * The handwritten serializers must write exactly what Jackson derives from the getters, so a DTO
+ * field missing from {@link ResponseJsonModule} fails here instead of vanishing from the API.
+ */
+class ResponseJsonModuleTests {
+
+	// Spring Boot's defaults (ISO date strings), once without and once with the module
+	private final ObjectMapper reflective = Jackson2ObjectMapperBuilder.json()
+			.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.build();
+	private final ObjectMapper handwritten = Jackson2ObjectMapperBuilder.json()
+			.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.modulesToInstall(new ResponseJsonModule())
+			.build();
+
+	@Test
+	void employeeMatchesReflectiveOutput() throws Exception {
+		EmployeeResponseDTO full = new EmployeeResponseDTO();
+		full.setId("ENGI7");
+		full.setFirstName("Ann \"Nancy\"");
+		full.setLastName("O'Neil");
+		full.setAddress("12, Main Street\nColombo");
+		full.setPhone("+94771234567");
+		full.setEmail("ann@company.com");
+		full.setAge(41);
+		full.setNic("851234567V");
+		full.setDepartment_id("ENGI");
+		full.setRole(Role.HR);
+
+		EmployeeResponseDTO empty = new EmployeeResponseDTO();
+
+		assertSameJson(full);
+		assertSameJson(empty);
+		assertSameJson(List.of(full, empty));
+	}
+
+	@Test
+	void attendanceMatchesReflectiveOutput() throws Exception {
+		AttendanceResponseDTO full = new AttendanceResponseDTO();
+		full.setId(42L);
+		full.setEmployee_id("FINA3");
+		full.setDate(LocalDate.of(2024, 12, 31));
+		full.setStatus("HALF_DAY");
+		full.setOverTimeHours(1.5);
+
+		AttendanceResponseDTO empty = new AttendanceResponseDTO();
+
+		assertSameJson(full);
+		assertSameJson(empty);
+		assertSameJson(List.of(full, empty));
+	}
+
+	@Test
+	void salaryMatchesReflectiveOutput() throws Exception {
+		SalaryResponseDTO full = new SalaryResponseDTO();
+		full.setId(9L);
+		full.setEmployee_id("SALE12");
+		full.setStartDate(LocalDate.of(2025, 1, 1));
+		full.setEndDate(LocalDate.of(2025, 1, 31));
+		full.setDepartment_id("SALE");
+		full.setBaseSalary(150_000);
+		full.setDaysPRESENT(20);
+		full.setDaysLEAVE(2);
+		full.setDaysNO_PAY(1);
+		full.setDaysHALF_DAY(3);
+		full.setDeduction(4_500);
+		full.setBonus(10_000);
+		full.setOverTimeHours(7.25);
+		full.setOverTimeRate(600);
+		full.setOverTimePay(4_350);
+		full.setTotalSalary(159_850);
+
+		SalaryResponseDTO empty = new SalaryResponseDTO();
+
+		assertSameJson(full);
+		assertSameJson(empty);
+		assertSameJson(List.of(full, empty));
+	}
+
+	private void assertSameJson(Object value) throws Exception {
+		JsonNode expected = reflective.readTree(reflective.writeValueAsString(value));
+		JsonNode actual = handwritten.readTree(handwritten.writeValueAsString(value));
+		assertEquals(expected, actual);
+	}
+}
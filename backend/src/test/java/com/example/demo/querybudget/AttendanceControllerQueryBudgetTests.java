@@ -0,0 +1,143 @@
+package com.example.demo.querybudget;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import com.example.demo.dto.AttendanceCreateDTO;
+import com.example.demo.dto.AttendanceUpdateDTO;
+import com.example.demo.model.Attendance;
+import com.example.demo.repository.AttendanceRepository;
+import com.example.demo.service.TableVersions;
+
+class AttendanceControllerQueryBudgetTests extends QueryBudgetTestSupport {
+
+	@Autowired
+	private AttendanceRepository attendanceRepository;
+
+	@Autowired
+	private TableVersions tableVersions;
+
+	private Long attendanceId;
+
+	@BeforeEach
+	void findAttendanceToUpdate() {
+		attendanceId = attendanceRepository.findByEmployee_IdAndDate("HUMA2", LocalDate.of(2025, 1, 20)).orElseThrow().getId();
+	}
+
+	@Test
+	// the employee unless the second-level cache holds it, a single INSERT and the monthly aggregate upsert;
+	// duplicates are caught by the unique key
+	@QueryBudget(3)
+	void createAttendance() throws Exception {
+		AttendanceCreateDTO dto = new AttendanceCreateDTO();
+		dto.setEmployee_id("FINA2");
+		dto.setDate(LocalDate.of(2025, 3, 1));
+		dto.setStatus(Attendance.AttendanceStatus.PRESENT);
+		dto.setOverTimeHours(2.0);
+		mockMvc.perform(post("/api/v1/attendance/create").contentType(MediaType.APPLICATION_JSON).content(json(dto)))
+				.andExpect(status().isCreated());
+	}
+
+	@Test
+	// known employees, existing keys, one JDBC batch of attendance and one of monthly aggregate upserts
+	@QueryBudget(4)
+	void createAttendanceBatch() throws Exception {
+		List<AttendanceCreateDTO> rows = new ArrayList<>();
+		for (int n = 1; n <= QueryBudgetData.EMPLOYEES_PER_DEPARTMENT; n++) {
+			AttendanceCreateDTO dto = new AttendanceCreateDTO();
+			dto.setEmployee_id(QueryBudgetData.employeeId("HUMA", n));
+			dto.setDate(LocalDate.of(2025, 3, 2));
+			dto.setStatus(Attendance.AttendanceStatus.PRESENT);
+			rows.add(dto);
+		}
+		mockMvc.perform(post("/api/v1/attendance/batch").contentType(MediaType.APPLICATION_JSON).content(json(rows)))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(2)
+	void getAttendanceByEmployeeIdAndDate() throws Exception {
+		mockMvc.perform(get("/api/v1/attendance/employee/ENGI2/date=2025-01-15")).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(1)
+	void getAttendanceByDate() throws Exception {
+		mockMvc.perform(get("/api/v1/attendance/date=2025-01-15")).andExpect(status().isOk());
+	}
+
+	@Test
+	// the current ETag is answered before any query
+	@QueryBudget(0)
+	void getAttendanceByDateNotModified() throws Exception {
+		mockMvc.perform(get("/api/v1/attendance/date=2025-01-15").header(HttpHeaders.IF_NONE_MATCH, tableVersions.etag(TableVersions.Table.ATTENDANCE)))
+				.andExpect(status().isNotModified());
+	}
+
+	@Test
+	@QueryBudget(1)
+	void getAttendanceByDateAndStatus() throws Exception {
+		mockMvc.perform(get("/api/v1/attendance/date/2025-01-15/status/PRESENT")).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(1)
+	void getAttendancesByDateAndDepartmentId() throws Exception {
+		mockMvc.perform(get("/api/v1/attendance/date/2025-01-15/department/ENGI")).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(2)
+	void getAttendanceByEmployeeIdAndDateRange() throws Exception {
+		mockMvc.perform(get("/api/v1/attendance/employee/ENGI2/dateRange/startDate=2025-01-01/endDate=2025-01-31"))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	// the whole company for a month: one GROUP BY over attendance joined to employee
+	@QueryBudget(1)
+	void getAttendanceMatrix() throws Exception {
+		mockMvc.perform(get("/api/v1/attendance/matrix")
+						.param("startDate", "2025-01-01")
+						.param("endDate", "2025-01-31"))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(2)
+	void getAttendanceSummary() throws Exception {
+		mockMvc.perform(get("/api/v1/attendance/employee/ENGI2/summary")
+						.param("startDate", "2025-01-01")
+						.param("endDate", "2025-01-31"))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	// load, UPDATE, and the monthly aggregate upsert moving the day from HALF_DAY to LEAVE
+	@QueryBudget(3)
+	void updateAttendance() throws Exception {
+		AttendanceUpdateDTO dto = new AttendanceUpdateDTO();
+		dto.setStatus(Attendance.AttendanceStatus.LEAVE);
+		mockMvc.perform(put("/api/v1/attendance/update/" + attendanceId).contentType(MediaType.APPLICATION_JSON).content(json(dto)))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	// DELETE and INSERT ... SELECT, whatever the number of attendance rows
+	@QueryBudget(2)
+	void rebuildMonthlyAttendance() throws Exception {
+		mockMvc.perform(post("/api/v1/attendance/monthly/rebuild")).andExpect(status().isOk());
+	}
+}
@@ -0,0 +1,63 @@
+package com.example.demo.querybudget;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.demo.Config.BoundedPasswordEncoder;
+import com.example.demo.dto.LoginRequest;
+
+class AuthControllerQueryBudgetTests extends QueryBudgetTestSupport {
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Test
+	@QueryBudget(1)
+	void login() throws Exception {
+		LoginRequest login = new LoginRequest(QueryBudgetData.ADMIN_EMAIL, QueryBudgetData.PASSWORD);
+		mockMvc.perform(post("/api/v1/auth/login").contentType(MediaType.APPLICATION_JSON).content(json(login)))
+				.andExpect(status().isOk());
+	}
+
+	// Known and unknown emails alike get 503 rather than 401 while the hashing pool is full
+	@Test
+	@QueryBudget(2)
+	void loginWhileHashingPoolIsSaturated() throws Exception {
+		ThreadPoolExecutor executor = ((BoundedPasswordEncoder) passwordEncoder).getExecutor();
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			int blockers = executor.getMaximumPoolSize() + executor.getQueue().remainingCapacity();
+			for (int i = 0; i < blockers; i++) {
+				executor.execute(() -> {
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				});
+			}
+
+			LoginRequest known = new LoginRequest(QueryBudgetData.ADMIN_EMAIL, QueryBudgetData.PASSWORD);
+			mockMvc.perform(post("/api/v1/auth/login").contentType(MediaType.APPLICATION_JSON).content(json(known)))
+					.andExpect(status().isServiceUnavailable())
+					.andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+
+			LoginRequest unknown = new LoginRequest("nobody@company.com", QueryBudgetData.PASSWORD);
+			mockMvc.perform(post("/api/v1/auth/login").contentType(MediaType.APPLICATION_JSON).content(json(unknown)))
+					.andExpect(status().isServiceUnavailable())
+					.andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+		} finally {
+			release.countDown();
+		}
+	}
+}
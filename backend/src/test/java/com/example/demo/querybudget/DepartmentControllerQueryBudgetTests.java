@@ -0,0 +1,84 @@
+package com.example.demo.querybudget;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import com.example.demo.dto.DepartmentCreateDTO;
+import com.example.demo.dto.DepartmentUpdateDTO;
+import com.example.demo.model.Department;
+import com.example.demo.repository.DepartmentRepository;
+import com.example.demo.service.TableVersions;
+
+class DepartmentControllerQueryBudgetTests extends QueryBudgetTestSupport {
+
+	// A department without employees, so it can be deleted
+	private static final String EMPTY_DEPARTMENT_ID = "MARK";
+
+	@Autowired
+	private DepartmentRepository departmentRepository;
+
+	@Autowired
+	private TableVersions tableVersions;
+
+	@BeforeEach
+	void createEmptyDepartment() {
+		if (!departmentRepository.existsById(EMPTY_DEPARTMENT_ID)) {
+			departmentRepository.save(new Department(EMPTY_DEPARTMENT_ID, "Marketing", 90_000, 400));
+		}
+	}
+
+	@Test
+	// id check, merge select + insert
+	@QueryBudget(3)
+	void addDepartment() throws Exception {
+		DepartmentCreateDTO dto = new DepartmentCreateDTO();
+		dto.setName("Logistics");
+		dto.setSalary(95_000);
+		dto.setOverTimeRate(450);
+		mockMvc.perform(post("/api/v1/department/create").contentType(MediaType.APPLICATION_JSON).content(json(dto)))
+				.andExpect(status().isCreated());
+	}
+
+	@Test
+	@QueryBudget(1)
+	void getAllDepartments() throws Exception {
+		mockMvc.perform(get("/api/v1/department/getAll")).andExpect(status().isOk());
+	}
+
+	@Test
+	// the current ETag is answered before any query
+	@QueryBudget(0)
+	void getAllDepartmentsNotModified() throws Exception {
+		mockMvc.perform(get("/api/v1/department/getAll").header(HttpHeaders.IF_NONE_MATCH, tableVersions.etag(TableVersions.Table.DEPARTMENT)))
+				.andExpect(status().isNotModified());
+	}
+
+	@Test
+	@QueryBudget(1)
+	void getDepartmentById() throws Exception {
+		mockMvc.perform(get("/api/v1/department/getById/ENGI")).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(2)
+	void updateDepartment() throws Exception {
+		DepartmentUpdateDTO dto = new DepartmentUpdateDTO(120_000);
+		mockMvc.perform(put("/api/v1/department/update/FINA").contentType(MediaType.APPLICATION_JSON).content(json(dto)))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(2)
+	void deleteDepartment() throws Exception {
+		mockMvc.perform(delete("/api/v1/department/delete/" + EMPTY_DEPARTMENT_ID)).andExpect(status().isNoContent());
+	}
+}
@@ -0,0 +1,195 @@
+package com.example.demo.querybudget;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.test.context.TestSecurityContextHolder;
+
+import com.example.demo.Util.JwtUtil;
+import com.example.demo.dto.EmployeeCreateDTO;
+import com.example.demo.dto.EmployeeUpdateDTO;
+import com.example.demo.dto.PasswordUpdateDTO;
+import com.example.demo.model.Role;
+import com.example.demo.repository.EmployeeRepository;
+import com.example.demo.service.EmployeeHistoryPurger;
+import com.example.demo.service.EmployeeSearchIndex;
+import com.example.demo.service.TableVersions;
+
+class EmployeeControllerQueryBudgetTests extends QueryBudgetTestSupport {
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private EmployeeHistoryPurger employeeHistoryPurger;
+
+	@Autowired
+	private TableVersions tableVersions;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private EmployeeSearchIndex employeeSearchIndex;
+
+	@Test
+	// email and NIC checks, current user, department, id block reservation (up to 3), merge select + insert
+	@QueryBudget(9)
+	void addEmployee() throws Exception {
+		EmployeeCreateDTO dto = new EmployeeCreateDTO();
+		dto.setFirstName("New");
+		dto.setLastName("Hire");
+		dto.setNic("NEWHIRE01");
+		dto.setGender("Other");
+		dto.setPhone("0771234567");
+		dto.setEmail("new.hire@company.com");
+		dto.setPassword(QueryBudgetData.PASSWORD);
+		dto.setBirthday(LocalDate.of(1995, 5, 5));
+		dto.setDepartment_id("OPER");
+		dto.setAddress("Somewhere");
+		dto.setRole(Role.USER);
+		mockMvc.perform(post("/api/v1/employee").contentType(MediaType.APPLICATION_JSON).content(json(dto)))
+				.andExpect(status().isCreated());
+	}
+
+	@Test
+	@QueryBudget(1)
+	void getAllEmployees() throws Exception {
+		mockMvc.perform(get("/api/v1/employee")).andExpect(status().isOk());
+	}
+
+	@Test
+	// the current ETag is answered before any query
+	@QueryBudget(0)
+	void getAllEmployeesNotModified() throws Exception {
+		mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, tableVersions.etag(TableVersions.Table.EMPLOYEE)))
+				.andExpect(status().isNotModified());
+	}
+
+	@Test
+	@QueryBudget(1)
+	void getEmployeePage() throws Exception {
+		mockMvc.perform(get("/api/v1/employee/page").param("size", "50").param("sort", "lastName"))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	// answered from the in-memory search index
+	@QueryBudget(0)
+	void searchEmployees() throws Exception {
+		mockMvc.perform(get("/api/v1/employee/search").param("q", "lastsale").param("size", "10"))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(1)
+	void getEmployeeById() throws Exception {
+		mockMvc.perform(get("/api/v1/employee/ENGI2")).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(2)
+	void getEmployeesByDepartmentId() throws Exception {
+		mockMvc.perform(get("/api/v1/employee/department/FINA")).andExpect(status().isOk());
+	}
+
+	@Test
+	// employee lookup, then one DELETE each for salaries, attendance, archived attendance, monthly totals
+	// and the employee, however long the history is
+	@QueryBudget(6)
+	void deleteEmployee() throws Exception {
+		String query = QueryBudgetData.DELETABLE_EMPLOYEE_ID.toLowerCase();
+		assertEquals(1, employeeSearchIndex.search(query, 0, 10).total());
+
+		mockMvc.perform(delete("/api/v1/employee/" + QueryBudgetData.DELETABLE_EMPLOYEE_ID))
+				.andExpect(status().isNoContent());
+
+		assertEquals(0, employeeSearchIndex.search(query, 0, 10).total());
+	}
+
+	@Test
+	// request thread: employee lookup and the deleted_at update; purge: one chunk each of attendance,
+	// archived attendance and salaries, the monthly totals and the employee row; plus the final check
+	@QueryBudget(2 + 5 + 1)
+	void deleteEmployeeInBackground() throws Exception {
+		ThreadPoolExecutor purgeWorker = employeeHistoryPurger.getExecutor();
+		long completedBefore = purgeWorker.getCompletedTaskCount();
+		String query = QueryBudgetData.BACKGROUND_DELETABLE_EMPLOYEE_ID.toLowerCase();
+		assertEquals(1, employeeSearchIndex.search(query, 0, 10).total());
+
+		mockMvc.perform(delete("/api/v1/employee/" + QueryBudgetData.BACKGROUND_DELETABLE_EMPLOYEE_ID).param("mode", "background"))
+				.andExpect(status().isNoContent());
+		// Gone from search as soon as it is marked deleted, before the purge
+		assertEquals(0, employeeSearchIndex.search(query, 0, 10).total());
+
+		long deadline = System.currentTimeMillis() + 30_000;
+		while (purgeWorker.getCompletedTaskCount() == completedBefore && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		assertFalse(employeeRepository.existsById(QueryBudgetData.BACKGROUND_DELETABLE_EMPLOYEE_ID));
+	}
+
+	@Test
+	// token owner lookup and the salary request; the background delete and its purge as above; the owner
+	// lookup that finds the employee marked deleted; the final check
+	@QueryBudget(3 + 2 + 5 + 1 + 1)
+	void tokenOfEmployeeDeletedInBackgroundIsRejected() throws Exception {
+		String employeeId = QueryBudgetData.TOKEN_REVOKED_EMPLOYEE_ID;
+		UserDetails owner = (UserDetails) employeeRepository.findById(employeeId).orElseThrow();
+		String bearer = "Bearer " + jwtUtil.generateToken(owner, Map.of("role", Role.USER.name()));
+		// Authenticate through the token alone rather than the class-level mock user
+		TestSecurityContextHolder.clearContext();
+		StatementCounter.INSTANCE.reset();
+		ThreadPoolExecutor purgeWorker = employeeHistoryPurger.getExecutor();
+		long completedBefore = purgeWorker.getCompletedTaskCount();
+
+		mockMvc.perform(get("/api/v1/salary/getByEmpId/" + employeeId).header(HttpHeaders.AUTHORIZATION, bearer))
+				.andExpect(status().isOk());
+		mockMvc.perform(delete("/api/v1/employee/" + employeeId).param("mode", "background")
+						.with(user(QueryBudgetData.ADMIN_EMAIL).roles("ADMIN")))
+				.andExpect(status().isNoContent());
+		mockMvc.perform(get("/api/v1/salary/getByEmpId/" + employeeId).header(HttpHeaders.AUTHORIZATION, bearer))
+				.andExpect(status().isUnauthorized());
+
+		long deadline = System.currentTimeMillis() + 30_000;
+		while (purgeWorker.getCompletedTaskCount() == completedBefore && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		assertFalse(employeeRepository.existsById(employeeId));
+	}
+
+	@Test
+	@QueryBudget(2)
+	void updateEmployeeById() throws Exception {
+		EmployeeUpdateDTO dto = new EmployeeUpdateDTO();
+		dto.setPhone("0779999999");
+		dto.setAddress("New address");
+		mockMvc.perform(put("/api/v1/employee/OPER2").contentType(MediaType.APPLICATION_JSON).content(json(dto)))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(2)
+	void changeEmployeePassword() throws Exception {
+		PasswordUpdateDTO dto = new PasswordUpdateDTO();
+		dto.setCurrentPassword(QueryBudgetData.PASSWORD);
+		dto.setNewPassword("another-password");
+		mockMvc.perform(put("/api/v1/employee/change-password/OPER3").contentType(MediaType.APPLICATION_JSON).content(json(dto)))
+				.andExpect(status().isOk());
+	}
+}
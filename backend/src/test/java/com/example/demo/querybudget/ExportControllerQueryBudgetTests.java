@@ -0,0 +1,45 @@
+package com.example.demo.querybudget;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+class ExportControllerQueryBudgetTests extends QueryBudgetTestSupport {
+
+	@Test
+	@QueryBudget(1)
+	void exportAttendanceAsCsv() throws Exception {
+		stream(get("/api/v1/export/attendance")
+				.param("startDate", QueryBudgetData.MONTH_START.toString())
+				.param("endDate", QueryBudgetData.MONTH_END.toString()));
+	}
+
+	@Test
+	@QueryBudget(1)
+	void exportDepartmentAttendanceAsNdjson() throws Exception {
+		stream(get("/api/v1/export/attendance")
+				.param("startDate", QueryBudgetData.MONTH_START.toString())
+				.param("endDate", QueryBudgetData.MONTH_END.toString())
+				.param("departmentId", "ENGI")
+				.param("format", "ndjson"));
+	}
+
+	@Test
+	@QueryBudget(1)
+	void exportSalaries() throws Exception {
+		stream(get("/api/v1/export/salary")
+				.param("startDate", QueryBudgetData.MONTH_START.toString())
+				.param("endDate", QueryBudgetData.MONTH_END.toString()));
+	}
+
+	// The body is written on an async thread; wait for it so its statements are counted
+	private void stream(RequestBuilder builder) throws Exception {
+		MvcResult result = mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+		mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+	}
+}
@@ -0,0 +1,95 @@
+package com.example.demo.querybudget;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import com.example.demo.Config.PayrollJobWorkers;
+import com.example.demo.dto.PayrollRunRequestDTO;
+import com.example.demo.model.PayrollJob;
+import com.example.demo.repository.PayrollJobRepository;
+
+class PayrollJobQueryBudgetTests extends QueryBudgetTestSupport {
+
+	// A company-wide job that stays QUEUED because it is stored directly instead of submitted
+	private static final LocalDate QUEUED_START = LocalDate.of(2025, 5, 1);
+	private static final LocalDate QUEUED_END = LocalDate.of(2025, 5, 31);
+
+	@Autowired
+	private PayrollJobRepository payrollJobRepository;
+
+	@Autowired
+	private PayrollJobWorkers payrollJobWorkers;
+
+	private Long queuedJobId;
+
+	@BeforeEach
+	void storeQueuedJob() {
+		PayrollJob job = new PayrollJob();
+		job.setStatus(PayrollJob.Status.QUEUED);
+		job.setStartDate(QUEUED_START);
+		job.setEndDate(QUEUED_END);
+		job.setCreatedAt(LocalDateTime.now());
+		queuedJobId = payrollJobRepository.save(job).getId();
+	}
+
+	@Test
+	// request thread: department check, period lock read and insert (first job of the period),
+	// overlapping job check, job insert;
+	// worker: job, employees, monthly totals, paid employees, job update, then one chunk
+	// (job, one INSERT per salary, job update) and completion (job, job update); plus the final status read
+	@QueryBudget(5 + 5 + (2 + QueryBudgetData.EMPLOYEES_PER_DEPARTMENT) + 2 + 1)
+	void submitPayrollJobAndRunItToCompletion() throws Exception {
+		ThreadPoolExecutor workers = payrollJobWorkers.getExecutor();
+		long completedBefore = workers.getCompletedTaskCount();
+
+		PayrollRunRequestDTO dto = new PayrollRunRequestDTO();
+		dto.setStartDate(LocalDate.of(2025, 4, 1));
+		dto.setEndDate(LocalDate.of(2025, 4, 30));
+		dto.setDepartment_id("FINA");
+		mockMvc.perform(post("/api/v1/salary/payroll-jobs").contentType(MediaType.APPLICATION_JSON).content(json(dto)))
+				.andExpect(status().isAccepted());
+
+		long deadline = System.currentTimeMillis() + 30_000;
+		while (workers.getCompletedTaskCount() == completedBefore && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		PayrollJob job = payrollJobRepository.findAll().stream()
+				.filter(candidate -> "FINA".equals(candidate.getDepartmentId()) && candidate.getStartDate().equals(dto.getStartDate()))
+				.findFirst().orElseThrow();
+		assertEquals(PayrollJob.Status.COMPLETED, job.getStatus());
+		assertEquals(QueryBudgetData.EMPLOYEES_PER_DEPARTMENT, job.getSalariesCreated());
+		assertTrue(job.getTotalPayout() > 0);
+	}
+
+	@Test
+	// department check, period lock read and insert (the queued job was stored directly) and
+	// overlapping job check; no job is stored or started
+	@QueryBudget(4)
+	void submitPayrollJobOverlappingAnUnfinishedJob() throws Exception {
+		PayrollRunRequestDTO dto = new PayrollRunRequestDTO();
+		dto.setStartDate(QUEUED_START);
+		dto.setEndDate(QUEUED_END);
+		dto.setDepartment_id("HUMA");
+		mockMvc.perform(post("/api/v1/salary/payroll-jobs").contentType(MediaType.APPLICATION_JSON).content(json(dto)))
+				.andExpect(status().isConflict());
+	}
+
+	@Test
+	// the job only; errors are read when the job recorded some
+	@QueryBudget(1)
+	void getPayrollJob() throws Exception {
+		mockMvc.perform(get("/api/v1/salary/payroll-jobs/" + queuedJobId)).andExpect(status().isOk());
+	}
+}
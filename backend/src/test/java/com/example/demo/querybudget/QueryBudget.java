@@ -0,0 +1,17 @@
+package com.example.demo.querybudget;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements (round trips, a JDBC batch counts once) the request made by the
+ * annotated test may execute. Second-level and query caches are cleared first, so this is the cold cost.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+	int value();
+}
@@ -0,0 +1,145 @@
+package com.example.demo.querybudget;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.demo.dto.AttendanceCreateDTO;
+import com.example.demo.dto.PayrollRunRequestDTO;
+import com.example.demo.model.Attendance;
+import com.example.demo.model.Department;
+import com.example.demo.model.Employee;
+import com.example.demo.model.Role;
+import com.example.demo.repository.AttendanceJdbcRepository;
+import com.example.demo.repository.DepartmentRepository;
+import com.example.demo.repository.EmployeeRepository;
+import com.example.demo.service.EmployeeService;
+import com.example.demo.service.MonthlyAttendanceService;
+import com.example.demo.service.SalaryService;
+
+/**
+ * Seeds the in-memory database once per application context: five departments of forty employees,
+ * a month of attendance for everyone and the salaries of that month.
+ */
+class QueryBudgetData {
+
+	static final String ADMIN_EMAIL = "admin@company.com";
+	static final String ADMIN_ID = "ENGI0";
+	static final String PASSWORD = "password123";
+
+	static final String[] DEPARTMENT_IDS = { "ENGI", "FINA", "HUMA", "OPER", "SALE" };
+	static final String[] DEPARTMENT_NAMES = { "Engineering", "Finance", "Human Resources", "Operations", "Sales" };
+	static final int EMPLOYEES_PER_DEPARTMENT = 40;
+
+	// Seeded attendance and salaries cover January 2025
+	static final LocalDate MONTH_START = LocalDate.of(2025, 1, 1);
+	static final LocalDate MONTH_END = LocalDate.of(2025, 1, 31);
+	static final int ATTENDANCE_DAYS = 31;
+
+	// Only the employee deletion tests touch these
+	static final String DELETABLE_EMPLOYEE_ID = "SALE" + EMPLOYEES_PER_DEPARTMENT;
+	static final String BACKGROUND_DELETABLE_EMPLOYEE_ID = "SALE" + (EMPLOYEES_PER_DEPARTMENT - 1);
+	static final String TOKEN_REVOKED_EMPLOYEE_ID = "SALE" + (EMPLOYEES_PER_DEPARTMENT - 2);
+
+	private final DepartmentRepository departmentRepository;
+	private final EmployeeRepository employeeRepository;
+	private final EmployeeService employeeService;
+	private final AttendanceJdbcRepository attendanceJdbcRepository;
+	private final MonthlyAttendanceService monthlyAttendanceService;
+	private final SalaryService salaryService;
+	private final PasswordEncoder passwordEncoder;
+	private boolean seeded;
+
+	QueryBudgetData(DepartmentRepository departmentRepository, EmployeeRepository employeeRepository, EmployeeService employeeService,
+			AttendanceJdbcRepository attendanceJdbcRepository, MonthlyAttendanceService monthlyAttendanceService, SalaryService salaryService,
+			PasswordEncoder passwordEncoder) {
+		this.departmentRepository = departmentRepository;
+		this.employeeRepository = employeeRepository;
+		this.employeeService = employeeService;
+		this.attendanceJdbcRepository = attendanceJdbcRepository;
+		this.monthlyAttendanceService = monthlyAttendanceService;
+		this.salaryService = salaryService;
+		this.passwordEncoder = passwordEncoder;
+	}
+
+	static String employeeId(String departmentId, int number) {
+		return departmentId + number;
+	}
+
+	synchronized void seedOnce() {
+		if (seeded) {
+			return;
+		}
+		String passwordHash = passwordEncoder.encode(PASSWORD);
+
+		List<Department> departments = new ArrayList<>();
+		for (int d = 0; d < DEPARTMENT_IDS.length; d++) {
+			departments.add(new Department(DEPARTMENT_IDS[d], DEPARTMENT_NAMES[d], 100_000 + d * 10_000L, 500 + d * 50));
+		}
+		departmentRepository.saveAll(departments);
+
+		List<Employee> employees = new ArrayList<>();
+		employees.add(employee(ADMIN_ID, departments.get(0), ADMIN_EMAIL, Role.ADMIN, passwordHash));
+		for (Department department : departments) {
+			for (int n = 1; n <= EMPLOYEES_PER_DEPARTMENT; n++) {
+				String id = employeeId(department.getId(), n);
+				Role role = n == 1 ? Role.HR : Role.USER;
+				employees.add(employee(id, department, id.toLowerCase() + "@company.com", role, passwordHash));
+			}
+		}
+		employeeRepository.saveAll(employees);
+		// Saved around EmployeeService, so the search index is loaded the way startup loads it
+		employeeService.rebuildSearchIndex();
+
+		List<AttendanceCreateDTO> attendance = new ArrayList<>();
+		for (int e = 1; e < employees.size(); e++) {
+			for (int day = 0; day < ATTENDANCE_DAYS; day++) {
+				AttendanceCreateDTO row = new AttendanceCreateDTO();
+				row.setEmployee_id(employees.get(e).getId());
+				row.setDate(MONTH_START.plusDays(day));
+				row.setStatus(status(e + day));
+				row.setOverTimeHours(row.getStatus() == Attendance.AttendanceStatus.PRESENT ? (double) (day % 3) : 0.0);
+				attendance.add(row);
+			}
+		}
+		attendanceJdbcRepository.batchInsert(attendance);
+		// Written around AttendanceService, so the monthly aggregate is built the way a bulk import would
+		monthlyAttendanceService.rebuild();
+
+		PayrollRunRequestDTO payroll = new PayrollRunRequestDTO();
+		payroll.setStartDate(MONTH_START);
+		payroll.setEndDate(MONTH_END);
+		salaryService.runPayroll(payroll);
+
+		seeded = true;
+	}
+
+	private static Attendance.AttendanceStatus status(int seed) {
+		return switch (seed % 10) {
+			case 0 -> Attendance.AttendanceStatus.LEAVE;
+			case 1 -> Attendance.AttendanceStatus.HALF_DAY;
+			case 2 -> Attendance.AttendanceStatus.NO_PAY;
+			default -> Attendance.AttendanceStatus.PRESENT;
+		};
+	}
+
+	private static Employee employee(String id, Department department, String email, Role role, String passwordHash) {
+		Employee employee = new Employee();
+		employee.setId(id);
+		employee.setFirst_name("First" + id);
+		employee.setLast_name("Last" + id);
+		employee.setNic("NIC" + id);
+		employee.setAddress("Address " + id);
+		employee.setGender("Other");
+		employee.setPhone("0770000000");
+		employee.setEmail(email);
+		employee.setPassword(passwordHash);
+		employee.setBirthday(LocalDate.of(1990, 1, 1));
+		employee.setAge(35);
+		employee.setDepartment(department);
+		employee.setRole(role);
+		return employee;
+	}
+}
@@ -0,0 +1,49 @@
+package com.example.demo.querybudget;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.example.demo.service.AttendanceQueryCache;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Clears the caches and resets the statement count right before each test method (after @BeforeEach
+ * setup), and fails the test when the request issued more statements than its {@link QueryBudget}.
+ */
+class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+	@Override
+	public void beforeTestExecution(ExtensionContext context) {
+		ApplicationContext applicationContext = SpringExtension.getApplicationContext(context);
+		applicationContext.getBean(EntityManagerFactory.class).getCache().evictAll();
+		applicationContext.getBean(AttendanceQueryCache.class).invalidateAll();
+		StatementCounter.INSTANCE.reset();
+	}
+
+	@Override
+	public void afterTestExecution(ExtensionContext context) {
+		if (context.getExecutionException().isPresent()) {
+			return;
+		}
+		Method method = context.getRequiredTestMethod();
+		QueryBudget budget = method.getAnnotation(QueryBudget.class);
+		if (budget == null) {
+			throw new AssertionFailedError(method.getName() + " must declare a @QueryBudget");
+		}
+		int executed = StatementCounter.INSTANCE.executed();
+		if (executed > budget.value()) {
+			StringBuilder message = new StringBuilder()
+					.append(method.getName()).append(" executed ").append(executed)
+					.append(" SQL statements, budget is ").append(budget.value()).append(':');
+			StatementCounter.INSTANCE.statements().forEach(sql -> message.append("\n  ").append(sql));
+			throw new AssertionFailedError(message.toString());
+		}
+	}
+}
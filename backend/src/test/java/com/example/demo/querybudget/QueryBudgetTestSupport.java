@@ -0,0 +1,50 @@
+package com.example.demo.querybudget;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.demo.Config.DataInitializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Base class of the per-controller query budget tests. Each test method performs one request and
+ * declares with {@link QueryBudget} how many SQL statements it may cost, so an N+1 fails the build.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(QueryCountingConfiguration.class)
+@ExtendWith(QueryBudgetExtension.class)
+@WithMockUser(username = QueryBudgetData.ADMIN_EMAIL, roles = "ADMIN")
+abstract class QueryBudgetTestSupport {
+
+	// The production admin bootstrap is replaced by QueryBudgetData
+	@MockitoBean
+	DataInitializer dataInitializer;
+
+	@Autowired
+	protected MockMvc mockMvc;
+
+	@Autowired
+	protected ObjectMapper objectMapper;
+
+	@Autowired
+	private QueryBudgetData queryBudgetData;
+
+	@BeforeEach
+	void seedDatabase() {
+		queryBudgetData.seedOnce();
+	}
+
+	protected String json(Object body) throws Exception {
+		return objectMapper.writeValueAsString(body);
+	}
+}
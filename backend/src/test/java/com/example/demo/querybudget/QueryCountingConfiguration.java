@@ -0,0 +1,46 @@
+package com.example.demo.querybudget;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.demo.repository.AttendanceJdbcRepository;
+import com.example.demo.repository.DepartmentRepository;
+import com.example.demo.repository.EmployeeRepository;
+import com.example.demo.service.EmployeeService;
+import com.example.demo.service.MonthlyAttendanceService;
+import com.example.demo.service.SalaryService;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+@TestConfiguration(proxyBeanMethods = false)
+class QueryCountingConfiguration {
+
+	@Bean
+	static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+					return ProxyDataSourceBuilder.create(dataSource)
+							.name("query-budget")
+							.listener(StatementCounter.INSTANCE)
+							.build();
+				}
+				return bean;
+			}
+		};
+	}
+
+	@Bean
+	QueryBudgetData queryBudgetData(DepartmentRepository departmentRepository, EmployeeRepository employeeRepository,
+			EmployeeService employeeService, AttendanceJdbcRepository attendanceJdbcRepository, MonthlyAttendanceService monthlyAttendanceService, SalaryService salaryService,
+			PasswordEncoder passwordEncoder) {
+		return new QueryBudgetData(departmentRepository, employeeRepository, employeeService, attendanceJdbcRepository, monthlyAttendanceService, salaryService,
+				passwordEncoder);
+	}
+}
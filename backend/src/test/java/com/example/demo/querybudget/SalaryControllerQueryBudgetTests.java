@@ -0,0 +1,81 @@
+package com.example.demo.querybudget;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import com.example.demo.dto.PayrollRunRequestDTO;
+import com.example.demo.dto.SalaryCreateDTO;
+import com.example.demo.repository.SalaryRepository;
+
+class SalaryControllerQueryBudgetTests extends QueryBudgetTestSupport {
+
+	@Autowired
+	private SalaryRepository salaryRepository;
+
+	private Long salaryId;
+
+	@BeforeEach
+	void findSalary() {
+		salaryId = salaryRepository.findByEmployee_Id("ENGI2").get(0).getId();
+	}
+
+	@Test
+	// employee, department, monthly attendance totals, insert
+	@QueryBudget(4)
+	void createSalary() throws Exception {
+		SalaryCreateDTO dto = new SalaryCreateDTO();
+		dto.setEmployee_id("ENGI3");
+		dto.setDepartment_id("ENGI");
+		dto.setStartDate(LocalDate.of(2025, 2, 1));
+		dto.setEndDate(LocalDate.of(2025, 2, 28));
+		dto.setBonus(5_000);
+		mockMvc.perform(post("/api/v1/salary/create").contentType(MediaType.APPLICATION_JSON).content(json(dto)))
+				.andExpect(status().isCreated());
+	}
+
+	@Test
+	// employee, department, monthly attendance totals, then the insert the unique (employee, period) key rejects
+	@QueryBudget(4)
+	void createSalaryForPaidPeriod() throws Exception {
+		SalaryCreateDTO dto = new SalaryCreateDTO();
+		dto.setEmployee_id("ENGI2");
+		dto.setDepartment_id("ENGI");
+		dto.setStartDate(QueryBudgetData.MONTH_START);
+		dto.setEndDate(QueryBudgetData.MONTH_END);
+		mockMvc.perform(post("/api/v1/salary/create").contentType(MediaType.APPLICATION_JSON).content(json(dto)))
+				.andExpect(status().isConflict());
+	}
+
+	@Test
+	// department check, employees, monthly attendance totals, existing salaries, then one INSERT per salary
+	// (identity keys rule out insert batching)
+	@QueryBudget(4 + QueryBudgetData.EMPLOYEES_PER_DEPARTMENT)
+	void runPayroll() throws Exception {
+		PayrollRunRequestDTO dto = new PayrollRunRequestDTO();
+		dto.setStartDate(LocalDate.of(2025, 2, 1));
+		dto.setEndDate(LocalDate.of(2025, 2, 28));
+		dto.setDepartment_id("FINA");
+		mockMvc.perform(post("/api/v1/salary/payroll-run").contentType(MediaType.APPLICATION_JSON).content(json(dto)))
+				.andExpect(status().isCreated());
+	}
+
+	@Test
+	@QueryBudget(2)
+	void getSalaryByEmployeeId() throws Exception {
+		mockMvc.perform(get("/api/v1/salary/getByEmpId/ENGI2")).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(1)
+	void getSalaryById() throws Exception {
+		mockMvc.perform(get("/api/v1/salary/getById/" + salaryId)).andExpect(status().isOk());
+	}
+}
@@ -0,0 +1,51 @@
+package com.example.demo.querybudget;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Counts statements executed through the proxied DataSource. Counts are global rather than per
+ * thread because streaming responses run their queries on an async executor thread.
+ */
+final class StatementCounter implements QueryExecutionListener {
+
+	static final StatementCounter INSTANCE = new StatementCounter();
+
+	private final AtomicInteger executed = new AtomicInteger();
+	private final Queue<String> statements = new ConcurrentLinkedQueue<>();
+
+	private StatementCounter() {
+	}
+
+	void reset() {
+		executed.set(0);
+		statements.clear();
+	}
+
+	int executed() {
+		return executed.get();
+	}
+
+	List<String> statements() {
+		return new ArrayList<>(statements);
+	}
+
+	@Override
+	public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+	}
+
+	@Override
+	public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		executed.incrementAndGet();
+		String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+		statements.add(execInfo.isBatch() ? sql + " [batch of " + execInfo.getBatchSize() + "]" : sql);
+	}
+}
@@ -0,0 +1,105 @@
+package com.example.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.dto.AttendanceCreateDTO;
+import com.example.demo.model.Attendance;
+import com.example.demo.model.Department;
+import com.example.demo.repository.DepartmentRepository;
+import com.example.demo.repository.EmployeeRepository;
+import com.example.demo.repository.TieredAttendanceRepository;
+
+/**
+ * Freezing a month for archival must not let a write that already passed the frozen check commit
+ * behind the archive copy. The test freezes a month long before any other test's data, since the
+ * freeze boundary is shared by the whole context.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AttendanceFreezeTests extends ServiceTestSupport {
+
+	private static final String EMPLOYEE_ID = "FREE1";
+	private static final LocalDate FROZEN_MONTH_END = LocalDate.of(2001, 1, 31);
+
+	@Autowired
+	private AttendanceService attendanceService;
+
+	@Autowired
+	private TieredAttendanceRepository tieredAttendanceRepository;
+
+	@Autowired
+	private DepartmentRepository departmentRepository;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeAll
+	void createEmployee() {
+		Department department = departmentRepository.save(new Department("FREE", "Freeze", 90_000, 400));
+		employeeRepository.save(employee(EMPLOYEE_ID, department, "Frances", "Freeze"));
+	}
+
+	@Test
+	void freezeWaitsForWriteInFlightAndRejectsLaterOnes() throws Exception {
+		CountDownLatch written = new CountDownLatch(1);
+		CountDownLatch commit = new CountDownLatch(1);
+		CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+			attendanceService.createAttendance(row(LocalDate.of(2001, 1, 15)));
+			written.countDown();
+			await(commit);
+		}));
+		assertTrue(written.await(5, TimeUnit.SECONDS));
+
+		CompletableFuture<Void> freeze = CompletableFuture.runAsync(() -> tieredAttendanceRepository.freezeThrough(FROZEN_MONTH_END));
+		Thread.sleep(200);
+		assertFalse(freeze.isDone(), "the freeze must wait for the write that passed the frozen check");
+		assertFalse(tieredAttendanceRepository.isFrozen(LocalDate.of(2001, 1, 15)));
+
+		commit.countDown();
+		writer.get(5, TimeUnit.SECONDS);
+		freeze.get(5, TimeUnit.SECONDS);
+
+		// The write is committed before the boundary moves, so a copy of the month taken now holds it
+		assertEquals(1, jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM attendance WHERE employee_id = ? AND date = ?", Integer.class, EMPLOYEE_ID, LocalDate.of(2001, 1, 15)));
+		assertThrows(IllegalArgumentException.class, () -> attendanceService.createAttendance(row(LocalDate.of(2001, 1, 16))));
+	}
+
+	private static AttendanceCreateDTO row(LocalDate date) {
+		AttendanceCreateDTO row = new AttendanceCreateDTO();
+		row.setEmployee_id(EMPLOYEE_ID);
+		row.setDate(date);
+		row.setStatus(Attendance.AttendanceStatus.PRESENT);
+		row.setOverTimeHours(0.0);
+		return row;
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			assertTrue(latch.await(5, TimeUnit.SECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,155 @@
+package com.example.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.demo.dto.AttendanceCreateDTO;
+import com.example.demo.dto.AttendanceResponseDTO;
+import com.example.demo.dto.AttendanceUpdateDTO;
+import com.example.demo.model.Attendance;
+import com.example.demo.model.Department;
+import com.example.demo.model.Employee;
+import com.example.demo.repository.DepartmentRepository;
+import com.example.demo.repository.EmployeeRepository;
+
+/**
+ * The attendance_monthly rows kept up to date by deltas must always equal a fresh GROUP BY over the
+ * daily attendance, whichever write path changed it.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AttendanceMonthlyConsistencyTests extends ServiceTestSupport {
+
+	private static final String DEPARTMENT_ID = "MONT";
+
+	private static final String AGGREGATE_SQL =
+			"SELECT employee_id, attendance_month, days_present, days_leave, days_half_day, days_no_pay, over_time_hours " +
+			"FROM attendance_monthly WHERE employee_id LIKE 'MONT%'";
+
+	private static final String GROUP_BY_SQL =
+			"SELECT employee_id, YEAR(date) * 100 + MONTH(date) AS attendance_month, " +
+			"SUM(CASE WHEN status = 'PRESENT' THEN 1 ELSE 0 END) AS days_present, " +
+			"SUM(CASE WHEN status = 'LEAVE' THEN 1 ELSE 0 END) AS days_leave, " +
+			"SUM(CASE WHEN status = 'HALF_DAY' THEN 1 ELSE 0 END) AS days_half_day, " +
+			"SUM(CASE WHEN status = 'NO_PAY' THEN 1 ELSE 0 END) AS days_no_pay, " +
+			"SUM(over_time_hours) AS over_time_hours " +
+			"FROM attendance WHERE employee_id LIKE 'MONT%' GROUP BY employee_id, YEAR(date) * 100 + MONTH(date)";
+
+	@Autowired
+	private AttendanceService attendanceService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private EmployeeHistoryPurger employeeHistoryPurger;
+
+	@Autowired
+	private DepartmentRepository departmentRepository;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeAll
+	void createEmployees() {
+		Department department = departmentRepository.save(new Department(DEPARTMENT_ID, "Monthly Totals", 110_000, 500));
+		List<Employee> employees = new ArrayList<>();
+		for (int n = 1; n <= 4; n++) {
+			employees.add(employee(DEPARTMENT_ID + n, department, "First" + n, "Last" + n));
+		}
+		employeeRepository.saveAll(employees);
+	}
+
+	@Test
+	void aggregateFollowsCreateUpdateAndDelete() throws Exception {
+		// Single creates around a year end
+		List<AttendanceResponseDTO> created = new ArrayList<>();
+		created.add(attendanceService.createAttendance(row("MONT1", "2024-12-30", Attendance.AttendanceStatus.PRESENT, 2.5)));
+		created.add(attendanceService.createAttendance(row("MONT1", "2024-12-31", Attendance.AttendanceStatus.LEAVE, 0.0)));
+		created.add(attendanceService.createAttendance(row("MONT1", "2025-01-01", Attendance.AttendanceStatus.PRESENT, 1.0)));
+		created.add(attendanceService.createAttendance(row("MONT2", "2025-01-01", Attendance.AttendanceStatus.HALF_DAY, 0.0)));
+		assertAggregateMatchesAttendance();
+
+		// A batch touching several employee-months, some of them already present
+		List<AttendanceCreateDTO> batch = new ArrayList<>();
+		LocalDate day = LocalDate.of(2024, 12, 1);
+		for (int i = 0; i < 75; i++, day = day.plusDays(1)) {
+			for (int n = 2; n <= 4; n++) {
+				if (n == 2 && day.equals(LocalDate.of(2025, 1, 1))) {
+					continue; // created above
+				}
+				Attendance.AttendanceStatus status = Attendance.AttendanceStatus.values()[(i + n) % Attendance.AttendanceStatus.values().length];
+				batch.add(row(DEPARTMENT_ID + n, day.toString(), status, status == Attendance.AttendanceStatus.PRESENT ? (i % 3) * 0.5 : 0.0));
+			}
+		}
+		attendanceService.createAttendanceBatch(batch);
+		assertAggregateMatchesAttendance();
+
+		// Status and overtime changes, including one that only changes overtime
+		attendanceService.updateAttendance(created.get(0).getId(), update(Attendance.AttendanceStatus.NO_PAY, null));
+		attendanceService.updateAttendance(created.get(1).getId(), update(Attendance.AttendanceStatus.PRESENT, 3.0));
+		attendanceService.updateAttendance(created.get(2).getId(), update(null, 4.5));
+		attendanceService.updateAttendance(created.get(3).getId(), update(Attendance.AttendanceStatus.LEAVE, null));
+		assertAggregateMatchesAttendance();
+
+		// Deletion in both modes removes the employee's months along with their attendance
+		employeeService.deleteEmployee("MONT4", "immediate");
+		assertAggregateMatchesAttendance();
+
+		ThreadPoolExecutor purgeWorker = employeeHistoryPurger.getExecutor();
+		long completedBefore = purgeWorker.getCompletedTaskCount();
+		employeeService.deleteEmployee("MONT3", "background");
+		long deadline = System.currentTimeMillis() + 30_000;
+		while (purgeWorker.getCompletedTaskCount() == completedBefore && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		assertFalse(employeeRepository.existsById("MONT3"));
+		assertAggregateMatchesAttendance();
+	}
+
+	private void assertAggregateMatchesAttendance() {
+		assertEquals(rows(GROUP_BY_SQL), rows(AGGREGATE_SQL));
+	}
+
+	// employee|month -> [present, leave, half day, no pay, overtime]
+	private Map<String, List<Double>> rows(String sql) {
+		Map<String, List<Double>> rows = new TreeMap<>();
+		jdbcTemplate.query(sql, rs -> {
+			rows.put(rs.getString("employee_id") + "|" + rs.getInt("attendance_month"), List.of(
+					rs.getDouble("days_present"), rs.getDouble("days_leave"), rs.getDouble("days_half_day"),
+					rs.getDouble("days_no_pay"), rs.getDouble("over_time_hours")));
+		});
+		return rows;
+	}
+
+	private static AttendanceCreateDTO row(String employeeId, String date, Attendance.AttendanceStatus status, double overTimeHours) {
+		AttendanceCreateDTO row = new AttendanceCreateDTO();
+		row.setEmployee_id(employeeId);
+		row.setDate(LocalDate.parse(date));
+		row.setStatus(status);
+		row.setOverTimeHours(overTimeHours);
+		return row;
+	}
+
+	private static AttendanceUpdateDTO update(Attendance.AttendanceStatus status, Double overTimeHours) {
+		AttendanceUpdateDTO update = new AttendanceUpdateDTO();
+		update.setStatus(status);
+		update.setOverTimeHours(overTimeHours);
+		return update;
+	}
+}
@@ -0,0 +1,117 @@
+package com.example.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.example.demo.dto.EmployeePageDTO;
+import com.example.demo.dto.EmployeeResponseDTO;
+import com.example.demo.model.Department;
+import com.example.demo.model.Employee;
+import com.example.demo.repository.DepartmentRepository;
+import com.example.demo.repository.EmployeeRepository;
+
+/**
+ * Walking every page of a keyset-paginated listing must return each active employee exactly once,
+ * in order, including runs of employees that share the sort value.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EmployeeCursorPagingTests extends ServiceTestSupport {
+
+	private static final String DEPARTMENT_ID = "CURS";
+	private static final String[] FIRST_NAMES = { "Amal", "Nimal", "Amal", "Kamal", "Sunil" };
+	private static final String[] LAST_NAMES = { "Perera", "Silva", "Bandara" };
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private DepartmentRepository departmentRepository;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	private final List<Employee> active = new ArrayList<>();
+
+	@BeforeAll
+	void createEmployees() {
+		Department department = departmentRepository.save(new Department(DEPARTMENT_ID, "Cursor Paging", 100_000, 400));
+		List<Employee> employees = new ArrayList<>();
+		for (int n = 1; n <= 23; n++) {
+			Employee employee = employee(DEPARTMENT_ID + n, department, FIRST_NAMES[n % FIRST_NAMES.length], LAST_NAMES[n % LAST_NAMES.length]);
+			if (n == 7) {
+				employee.setDeletedAt(LocalDateTime.now()); // marked deleted, awaiting its purge
+			} else {
+				active.add(employee);
+			}
+			employees.add(employee);
+		}
+		employeeRepository.saveAll(employees);
+	}
+
+	@Test
+	void byId() {
+		assertWalk("id", Employee::getId);
+	}
+
+	@Test
+	void byFirstNameWithTies() {
+		assertWalk("firstName", Employee::getFirst_name);
+	}
+
+	@Test
+	void byLastNameWithTies() {
+		assertWalk("lastName", Employee::getLast_name);
+	}
+
+	@Test
+	void cursorOfAnotherSortIsRejected() {
+		EmployeePageDTO first = employeeService.getEmployeePage(null, 5, "lastName", "asc", DEPARTMENT_ID, null);
+		assertThrows(IllegalArgumentException.class,
+				() -> employeeService.getEmployeePage(first.getNextCursor(), 5, "lastName", "desc", DEPARTMENT_ID, null));
+		assertThrows(IllegalArgumentException.class,
+				() -> employeeService.getEmployeePage(first.getNextCursor(), 5, "firstName", "asc", DEPARTMENT_ID, null));
+	}
+
+	private void assertWalk(String sort, Function<Employee, String> sortValue) {
+		Comparator<Employee> ascending = Comparator.comparing(sortValue).thenComparing(Employee::getId);
+		for (String direction : List.of("asc", "desc")) {
+			List<String> expected = active.stream()
+					.sorted(direction.equals("asc") ? ascending : ascending.reversed())
+					.map(Employee::getId)
+					.toList();
+			// Page sizes that divide the rows evenly, leave a remainder, and hold everything
+			for (int size : List.of(1, 4, 11, 22, 50)) {
+				assertEquals(expected, walk(sort, direction, size), sort + " " + direction + ", pages of " + size);
+			}
+		}
+	}
+
+	private List<String> walk(String sort, String direction, int size) {
+		List<String> ids = new ArrayList<>();
+		String cursor = null;
+		for (int pages = 0; pages <= active.size(); pages++) {
+			EmployeePageDTO page = employeeService.getEmployeePage(cursor, size, sort, direction, DEPARTMENT_ID, null);
+			assertTrue(page.getItems().size() <= size);
+			page.getItems().stream().map(EmployeeResponseDTO::getId).forEach(ids::add);
+			if (!page.isHasMore()) {
+				assertNull(page.getNextCursor());
+				return ids;
+			}
+			cursor = page.getNextCursor();
+		}
+		throw new AssertionError("Paging did not end after " + active.size() + " pages");
+	}
+}
@@ -0,0 +1,120 @@
+package com.example.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.dto.EmployeeResponseDTO;
+
+class EmployeeSearchIndexTests {
+
+	private final EmployeeSearchIndex index = new EmployeeSearchIndex();
+
+	@BeforeEach
+	void buildIndex() {
+		List<EmployeeResponseDTO> employees = new ArrayList<>();
+		employees.add(employee("ENGI1", "Anna", "Perera", "anna.perera@company.com", "901234567V", "+94771000001"));
+		employees.add(employee("ENGI2", "Annika", "Silva", "annika.silva@company.com", "912345678V", "+94771000002"));
+		employees.add(employee("FINA1", "Kasun", "Perera", "kasun.p@company.com", "881234567V", "0772000003"));
+		employees.add(employee("FINA2", "Nimal", "Fernando", "nimal@company.com", "871234567V", "0772000004"));
+		// Shares every trigram of "perera" without containing it
+		employees.add(employee("SALE1", "Erer", "Pere", "rera.pere@company.com", "861234567V", "0773000005"));
+		index.rebuild(employees);
+	}
+
+	@Test
+	void everyTermMustMatch() {
+		assertEquals(List.of("ENGI1", "FINA1"), ids(index.search("perera", 0, 10)));
+		assertEquals(List.of("FINA1"), ids(index.search("PERERA kasun", 0, 10)));
+		assertEquals(List.of("ENGI1"), ids(index.search("an perera", 0, 10)));
+		assertEquals(List.of(), ids(index.search("perera silva", 0, 10)));
+		assertEquals(List.of(), ids(index.search("nobody", 0, 10)));
+	}
+
+	@Test
+	void pagesOfOneExactKey() {
+		// "com" is a single trigram, so its posting list is the answer
+		assertEquals(5, index.search("com", 0, 2).total());
+		assertEquals(List.of("ENGI1", "ENGI2"), ids(index.search("com", 0, 2)));
+		assertEquals(List.of("FINA1", "FINA2"), ids(index.search("com", 1, 2)));
+		assertEquals(List.of("SALE1"), ids(index.search("com", 2, 2)));
+		assertEquals(5, index.search("com", 3, 2).total());
+		assertEquals(List.of(), ids(index.search("com", 3, 2)));
+	}
+
+	@Test
+	void pagesOfCheckedTerms() {
+		// "company" is longer than a trigram, so candidates are checked against the field text
+		EmployeeSearchIndex.Page first = index.search("company 077", 0, 2);
+		assertEquals(3, first.total());
+		assertEquals(List.of("FINA1", "FINA2"), ids(first));
+		EmployeeSearchIndex.Page second = index.search("company 077", 1, 2);
+		assertEquals(3, second.total());
+		assertEquals(List.of("SALE1"), ids(second));
+		assertEquals(List.of(), ids(index.search("company 077", 2, 2)));
+	}
+
+	@Test
+	void onlyCandidatesContainingTheTermMatch() {
+		EmployeeSearchIndex.Page page = index.search("erera", 0, 10);
+		assertEquals(2, page.total());
+		assertEquals(List.of("ENGI1", "FINA1"), ids(page));
+	}
+
+	@Test
+	void putReplacesTheKeysOfTheOldValues() {
+		index.put(employee("ENGI1", "Anne", "Jayasuriya", "anne.j@company.com", "901234567V", "+94771000001"));
+
+		assertEquals(List.of("FINA1"), ids(index.search("perera", 0, 10)));
+		assertEquals(List.of(), ids(index.search("anna.perera", 0, 10)));
+		assertEquals(List.of("ENGI1"), ids(index.search("jayasuriya", 0, 10)));
+		assertEquals(List.of("ENGI1"), ids(index.search("anne.j@", 0, 10)));
+		// The prefix keys of the old name are gone too
+		assertEquals(List.of("FINA1", "SALE1"), ids(index.search("pe", 0, 10)));
+		assertEquals(List.of("ENGI1"), ids(index.search("ja", 0, 10)));
+		assertEquals(5, index.size());
+	}
+
+	@Test
+	void removeDropsTheEmployeeFromEveryKey() {
+		index.remove("FINA1");
+		index.remove("UNKNOWN");
+
+		assertEquals(List.of("ENGI1"), ids(index.search("perera", 0, 10)));
+		assertEquals(List.of(), ids(index.search("kasun", 0, 10)));
+		assertEquals(List.of(), ids(index.search("ka", 0, 10)));
+		assertEquals(4, index.search("com", 0, 10).total());
+		assertEquals(4, index.size());
+	}
+
+	@Test
+	void shortTermsMatchWordPrefixesOnly() {
+		assertEquals(List.of("ENGI1", "ENGI2"), ids(index.search("an", 0, 10)));
+		assertEquals(List.of("FINA2"), ids(index.search("n", 0, 10)));
+		// "nn" occurs inside "anna" but starts no word
+		assertEquals(List.of(), ids(index.search("nn", 0, 10)));
+		// A short term with punctuation matches nothing, a longer one matches as a substring
+		assertEquals(List.of(), ids(index.search("+9", 0, 10)));
+		assertEquals(List.of("ENGI1", "ENGI2"), ids(index.search("+94", 0, 10)));
+	}
+
+	private static List<String> ids(EmployeeSearchIndex.Page page) {
+		return page.items().stream().map(EmployeeResponseDTO::getId).toList();
+	}
+
+	private static EmployeeResponseDTO employee(String id, String firstName, String lastName, String email, String nic, String phone) {
+		EmployeeResponseDTO employee = new EmployeeResponseDTO();
+		employee.setId(id);
+		employee.setFirstName(firstName);
+		employee.setLastName(lastName);
+		employee.setEmail(email);
+		employee.setNic(nic);
+		employee.setPhone(phone);
+		employee.setDepartment_id(id.substring(0, 4));
+		return employee;
+	}
+}
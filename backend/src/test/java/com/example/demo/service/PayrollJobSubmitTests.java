@@ -0,0 +1,115 @@
+package com.example.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.demo.Config.PayrollJobWorkers;
+import com.example.demo.dto.PayrollRunRequestDTO;
+import com.example.demo.exception.PayrollJobConflictException;
+import com.example.demo.model.Department;
+import com.example.demo.repository.DepartmentRepository;
+import com.example.demo.repository.EmployeeRepository;
+
+/**
+ * Submissions of the same payroll job racing each other must start it once; every other one gets
+ * the conflict (409), including the first submissions of a period, which race to create its lock row.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PayrollJobSubmitTests extends ServiceTestSupport {
+
+	private static final String DEPARTMENT_ID = "SUBM";
+	private static final int ROUNDS = 6;
+	private static final int SUBMITTERS = 6;
+
+	@Autowired
+	private PayrollJobService payrollJobService;
+
+	@Autowired
+	private PayrollJobWorkers payrollJobWorkers;
+
+	@Autowired
+	private DepartmentRepository departmentRepository;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeAll
+	void createEmployees() {
+		Department department = departmentRepository.save(new Department(DEPARTMENT_ID, "Submissions", 80_000, 300));
+		employeeRepository.save(employee(DEPARTMENT_ID + 1, department, "Sam", "Submit"));
+		employeeRepository.save(employee(DEPARTMENT_ID + 2, department, "Sue", "Submit"));
+	}
+
+	@Test
+	void concurrentSubmissionsStartOneJob() throws Exception {
+		// The jobs stay queued behind blocked workers; a job that already completed would rightly
+		// let a late submission through
+		ThreadPoolExecutor workers = payrollJobWorkers.getExecutor();
+		CountDownLatch release = new CountDownLatch(1);
+		for (int i = 0; i < workers.getMaximumPoolSize(); i++) {
+			workers.execute(() -> {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+		ExecutorService submitters = Executors.newFixedThreadPool(SUBMITTERS);
+		try {
+			for (int round = 0; round < ROUNDS; round++) {
+				LocalDate start = LocalDate.of(2031, round + 1, 1);
+				PayrollRunRequestDTO dto = new PayrollRunRequestDTO();
+				dto.setStartDate(start);
+				dto.setEndDate(start.withDayOfMonth(start.lengthOfMonth()));
+				dto.setDepartment_id(DEPARTMENT_ID);
+
+				CyclicBarrier barrier = new CyclicBarrier(SUBMITTERS);
+				List<Future<Boolean>> outcomes = new ArrayList<>();
+				for (int i = 0; i < SUBMITTERS; i++) {
+					outcomes.add(submitters.submit(() -> {
+						barrier.await(5, TimeUnit.SECONDS);
+						try {
+							payrollJobService.submit(dto);
+							return true;
+						} catch (PayrollJobConflictException e) {
+							return false;
+						}
+					}));
+				}
+				int accepted = 0;
+				for (Future<Boolean> outcome : outcomes) {
+					if (outcome.get(30, TimeUnit.SECONDS)) {
+						accepted++;
+					}
+				}
+
+				assertEquals(1, accepted, "accepted submissions for " + start);
+				assertEquals(1, jdbcTemplate.queryForObject(
+						"SELECT COUNT(*) FROM payroll_job WHERE department_id = ? AND start_date = ?", Integer.class, DEPARTMENT_ID, start));
+			}
+		} finally {
+			submitters.shutdownNow();
+			release.countDown();
+		}
+	}
+}
@@ -0,0 +1,164 @@
+package com.example.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.demo.dto.AttendanceCreateDTO;
+import com.example.demo.dto.PayrollRunRequestDTO;
+import com.example.demo.dto.PayrollRunSummaryDTO;
+import com.example.demo.dto.SalaryCreateDTO;
+import com.example.demo.dto.SalaryResponseDTO;
+import com.example.demo.model.Attendance;
+import com.example.demo.model.Department;
+import com.example.demo.model.Employee;
+import com.example.demo.repository.DepartmentRepository;
+import com.example.demo.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * A payroll run must store, for every employee, the salary createSalary computes for that employee
+ * alone, although it reads attendance totals for the whole department at once.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PayrollTotalsTests extends ServiceTestSupport {
+
+	private static final String DEPARTMENT_ID = "PAYR";
+	private static final int EMPLOYEES = 6;
+	private static final long BONUS = 2_500;
+	private static final LocalDate FIRST_DAY = LocalDate.of(2024, 12, 10);
+	private static final LocalDate LAST_DAY = LocalDate.of(2025, 3, 20);
+
+	@Autowired
+	private SalaryService salaryService;
+
+	@Autowired
+	private AttendanceService attendanceService;
+
+	@Autowired
+	private DepartmentRepository departmentRepository;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@BeforeAll
+	void createEmployeesWithAttendance() {
+		Department department = departmentRepository.save(new Department(DEPARTMENT_ID, "Payroll", 120_000, 450));
+		List<Employee> employees = new ArrayList<>();
+		for (int n = 1; n <= EMPLOYEES; n++) {
+			employees.add(employee(DEPARTMENT_ID + n, department, "First" + n, "Last" + n));
+		}
+		employeeRepository.saveAll(employees);
+
+		// The last employee has no attendance at all
+		List<AttendanceCreateDTO> rows = new ArrayList<>();
+		for (int n = 1; n < EMPLOYEES; n++) {
+			int day = 0;
+			for (LocalDate date = FIRST_DAY; !date.isAfter(LAST_DAY); date = date.plusDays(1), day++) {
+				if ((day + n) % 7 == 0) {
+					continue; // a day off without any attendance row
+				}
+				AttendanceCreateDTO row = new AttendanceCreateDTO();
+				row.setEmployee_id(DEPARTMENT_ID + n);
+				row.setDate(date);
+				row.setStatus(status(day * n));
+				row.setOverTimeHours(row.getStatus() == Attendance.AttendanceStatus.PRESENT ? (day % 4) * 0.5 : 0.0);
+				rows.add(row);
+			}
+		}
+		attendanceService.createAttendanceBatch(rows);
+	}
+
+	@Test
+	void periodWithPartialMonthsAcrossTheYearEnd() throws Exception {
+		assertPayrollMatchesSingleSalaries(LocalDate.of(2024, 12, 15), LocalDate.of(2025, 2, 14));
+	}
+
+	@Test
+	void periodOfWholeMonths() throws Exception {
+		assertPayrollMatchesSingleSalaries(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 28));
+	}
+
+	@Test
+	void periodWithinOneMonth() throws Exception {
+		assertPayrollMatchesSingleSalaries(LocalDate.of(2025, 3, 3), LocalDate.of(2025, 3, 17));
+	}
+
+	private void assertPayrollMatchesSingleSalaries(LocalDate startDate, LocalDate endDate) throws Exception {
+		PayrollRunRequestDTO run = new PayrollRunRequestDTO();
+		run.setStartDate(startDate);
+		run.setEndDate(endDate);
+		run.setDepartment_id(DEPARTMENT_ID);
+		run.setBonus(BONUS);
+		PayrollRunSummaryDTO summary = salaryService.runPayroll(run);
+		assertEquals(EMPLOYEES, summary.getSalariesCreated());
+		assertEquals(0, summary.getSkippedExisting());
+
+		List<SalaryResponseDTO> fromPayroll = new ArrayList<>();
+		for (int n = 1; n <= EMPLOYEES; n++) {
+			fromPayroll.add(salaryFor(DEPARTMENT_ID + n, startDate));
+		}
+		// Computed again one employee at a time, through the single-salary path
+		jdbcTemplate.update("DELETE FROM salary WHERE department_id = ? AND start_date = ? AND end_date = ?", DEPARTMENT_ID, startDate, endDate);
+		long singleTotal = 0;
+		for (int n = 1; n <= EMPLOYEES; n++) {
+			SalaryCreateDTO single = new SalaryCreateDTO();
+			single.setEmployee_id(DEPARTMENT_ID + n);
+			single.setDepartment_id(DEPARTMENT_ID);
+			single.setStartDate(startDate);
+			single.setEndDate(endDate);
+			single.setBonus(BONUS);
+			SalaryResponseDTO expected = salaryService.createSalary(single);
+			singleTotal += expected.getTotalSalary();
+
+			SalaryResponseDTO actual = fromPayroll.get(n - 1);
+			assertEquals(withoutId(expected), withoutId(actual), "salary of " + single.getEmployee_id());
+			assertEquals(attendanceDays(single.getEmployee_id(), startDate, endDate),
+					actual.getDaysPRESENT() + actual.getDaysLEAVE() + actual.getDaysHALF_DAY() + actual.getDaysNO_PAY(),
+					"attendance days of " + single.getEmployee_id());
+		}
+		assertEquals(singleTotal, summary.getTotalPayout());
+	}
+
+	private SalaryResponseDTO salaryFor(String employeeId, LocalDate startDate) {
+		return salaryService.getSalaryByEmployeeId(employeeId).stream()
+				.filter(salary -> salary.getStartDate().equals(startDate))
+				.findFirst()
+				.orElseThrow();
+	}
+
+	private int attendanceDays(String employeeId, LocalDate startDate, LocalDate endDate) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attendance WHERE employee_id = ? AND date BETWEEN ? AND ?",
+				Integer.class, employeeId, startDate, endDate);
+	}
+
+	private ObjectNode withoutId(SalaryResponseDTO salary) {
+		ObjectNode tree = objectMapper.valueToTree(salary);
+		tree.remove("id");
+		return tree;
+	}
+
+	private static Attendance.AttendanceStatus status(int seed) {
+		return switch (seed % 9) {
+			case 0 -> Attendance.AttendanceStatus.LEAVE;
+			case 1, 5 -> Attendance.AttendanceStatus.HALF_DAY;
+			case 2 -> Attendance.AttendanceStatus.NO_PAY;
+			default -> Attendance.AttendanceStatus.PRESENT;
+		};
+	}
+}
@@ -0,0 +1,96 @@
+package com.example.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.service.MonthlyAttendanceService.DateRange;
+import com.example.demo.service.MonthlyAttendanceService.PeriodSplit;
+
+class PeriodSplitTests {
+
+	@Test
+	void startAndEndMidMonth() {
+		PeriodSplit split = PeriodSplit.of(LocalDate.of(2025, 1, 15), LocalDate.of(2025, 3, 10));
+		assertTrue(split.hasWholeMonths());
+		assertEquals(202502, split.fromMonth());
+		assertEquals(202502, split.toMonth());
+		assertEquals(List.of(range("2025-01-15", "2025-01-31"), range("2025-03-01", "2025-03-10")), split.partialRanges());
+	}
+
+	@Test
+	void singleDay() {
+		PeriodSplit split = PeriodSplit.of(LocalDate.of(2025, 2, 10), LocalDate.of(2025, 2, 10));
+		assertFalse(split.hasWholeMonths());
+		assertEquals(List.of(range("2025-02-10", "2025-02-10")), split.partialRanges());
+
+		PeriodSplit firstOfMonth = PeriodSplit.of(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 1));
+		assertFalse(firstOfMonth.hasWholeMonths());
+		assertEquals(List.of(range("2025-03-01", "2025-03-01")), firstOfMonth.partialRanges());
+	}
+
+	@Test
+	void acrossTheYearEnd() {
+		PeriodSplit split = PeriodSplit.of(LocalDate.of(2024, 11, 20), LocalDate.of(2025, 2, 5));
+		assertTrue(split.hasWholeMonths());
+		assertEquals(202412, split.fromMonth());
+		assertEquals(202501, split.toMonth());
+		assertEquals(List.of(range("2024-11-20", "2024-11-30"), range("2025-02-01", "2025-02-05")), split.partialRanges());
+
+		// No whole month in between: one partial range spanning both years
+		PeriodSplit yearEnd = PeriodSplit.of(LocalDate.of(2024, 12, 20), LocalDate.of(2025, 1, 10));
+		assertFalse(yearEnd.hasWholeMonths());
+		assertEquals(List.of(range("2024-12-20", "2025-01-10")), yearEnd.partialRanges());
+	}
+
+	@Test
+	void wholeMonthsOnly() {
+		PeriodSplit split = PeriodSplit.of(LocalDate.of(2023, 12, 1), LocalDate.of(2024, 2, 29));
+		assertTrue(split.hasWholeMonths());
+		assertEquals(202312, split.fromMonth());
+		assertEquals(202402, split.toMonth());
+		assertEquals(List.of(), split.partialRanges());
+	}
+
+	@Test
+	void everyDayIsCoveredExactlyOnce() {
+		LocalDate earliest = LocalDate.of(2023, 11, 1);
+		for (LocalDate start = earliest; start.isBefore(LocalDate.of(2024, 4, 1)); start = start.plusDays(1)) {
+			for (int length = 0; length < 100; length += 3) {
+				LocalDate end = start.plusDays(length);
+				PeriodSplit split = PeriodSplit.of(start, end);
+
+				Map<LocalDate, Integer> covered = new HashMap<>();
+				if (split.hasWholeMonths()) {
+					for (YearMonth month = split.firstWholeMonth(); !month.isAfter(split.lastWholeMonth()); month = month.plusMonths(1)) {
+						for (int day = 1; day <= month.lengthOfMonth(); day++) {
+							covered.merge(month.atDay(day), 1, Integer::sum);
+						}
+					}
+				}
+				for (DateRange range : split.partialRanges()) {
+					for (LocalDate day = range.start(); !day.isAfter(range.end()); day = day.plusDays(1)) {
+						covered.merge(day, 1, Integer::sum);
+					}
+				}
+				assertEquals(length + 1, covered.size(), start + ".." + end);
+				for (Map.Entry<LocalDate, Integer> day : covered.entrySet()) {
+					assertFalse(day.getKey().isBefore(start) || day.getKey().isAfter(end), start + ".." + end + " covers " + day.getKey());
+					assertEquals(1, day.getValue(), start + ".." + end + " counts " + day.getKey() + " twice");
+				}
+			}
+		}
+	}
+
+	private static DateRange range(String start, String end) {
+		return new DateRange(LocalDate.parse(start), LocalDate.parse(end));
+	}
+}
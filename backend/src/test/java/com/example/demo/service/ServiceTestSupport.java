@@ -0,0 +1,48 @@
+package com.example.demo.service;
+
+import java.time.LocalDate;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.example.demo.Config.DataInitializer;
+import com.example.demo.model.Department;
+import com.example.demo.model.Employee;
+import com.example.demo.model.Role;
+
+/**
+ * Base class of the service tests that check computed values against the database. They share one
+ * application context on a database of their own, apart from the query budget tests' seeded one,
+ * so each test class creates the department and employees it needs under its own ids (a department's
+ * id is the first four letters of its name).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:ems-service;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE;DB_CLOSE_DELAY=-1")
+@WithMockUser(username = "admin@company.com", roles = "ADMIN")
+abstract class ServiceTestSupport {
+
+	@MockitoBean
+	DataInitializer dataInitializer;
+
+	static Employee employee(String id, Department department, String firstName, String lastName) {
+		Employee employee = new Employee();
+		employee.setId(id);
+		employee.setFirst_name(firstName);
+		employee.setLast_name(lastName);
+		employee.setNic("NIC" + id);
+		employee.setAddress("Address " + id);
+		employee.setGender("Other");
+		employee.setPhone("0770000000");
+		employee.setEmail(id.toLowerCase() + "@company.com");
+		employee.setPassword("not-a-hash");
+		employee.setBirthday(LocalDate.of(1990, 1, 1));
+		employee.setAge(35);
+		employee.setDepartment(department);
+		employee.setRole(Role.USER);
+		return employee;
+	}
+}
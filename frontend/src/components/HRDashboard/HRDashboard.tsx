@@ -159,7 +159,8 @@ const HRDashboard: React.FC = () => {
       console.log("Fetching today's attendance with HR authentication...");
       // Get today's date in YYYY-MM-DD format
       const today = new Date().toISOString().split('T')[0];
-      const response = await fetch(`http://localhost:8080/api/v1/attendance/date/${today}/status/PRESENT`, {
+      // One grouped query on the server: per-department counts for today, summed here
+      const response = await fetch(`http://localhost:8080/api/v1/attendance/matrix?startDate=${today}&endDate=${today}`, {
         method: 'GET',
         headers: {
           'Content-Type': 'application/json',
@@ -168,19 +169,10 @@ const HRDashboard: React.FC = () => {
       });
       console.log("Today's attendance response status:", response.status);
       console.log("Today's attendance response ok:", response.ok);
-      if (response.status === 204) {
-        // No Content: no present employees
-        setTodaysAttendance(0);
-        return;
-      }
       const responseBody = await response.text();
-      if (!responseBody) {
-        setTodaysAttendance(0);
-        return;
-      }
-      let attendanceRecords;
+      let matrix;
       try {
-        attendanceRecords = JSON.parse(responseBody);
+        matrix = responseBody ? JSON.parse(responseBody) : null;
       } catch (e) {
         setAttendanceError('Invalid JSON response from server.');
         setTodaysAttendance(0);
@@ -188,15 +180,12 @@ const HRDashboard: React.FC = () => {
         return;
       }
       if (response.ok) {
-        // If the response is an array, use its length
         let count = 0;
-        if (Array.isArray(attendanceRecords)) {
-          count = attendanceRecords.length;
-        } else if (attendanceRecords && Array.isArray(attendanceRecords.data)) {
-          count = attendanceRecords.data.length;
+        if (matrix && Array.isArray(matrix.cells)) {
+          count = matrix.cells.reduce((sum: number, cell: { countPRESENT: number }) => sum + cell.countPRESENT, 0);
         } else {
           setAttendanceError('Unexpected response format.');
-          console.error('Unexpected attendance response format:', attendanceRecords);
+          console.error('Unexpected attendance response format:', matrix);
         }
         setTodaysAttendance(count);
         console.log(`Found ${count} employees present today (${today})`);